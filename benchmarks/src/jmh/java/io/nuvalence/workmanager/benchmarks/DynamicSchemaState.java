@@ -0,0 +1,72 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaJson;
+import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.mapper.SchemaMapper;
+import io.nuvalence.workmanager.service.mapper.TransactionMapper;
+import org.apache.commons.beanutils.BasicDynaBean;
+import org.apache.commons.beanutils.BasicDynaClass;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaProperty;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mappers and inputs shared by the dynamic schema benchmarks, in every representation the hot paths consume: the
+ * compiled schema and its persisted JSON, generic entity data, a persisted entity row and a loaded entity. A
+ * BasicDynaBean copy of the loaded entity's top-level attributes serves as the attribute storage baseline.
+ */
+@State(Scope.Benchmark)
+public class DynamicSchemaState {
+    @Param({"WIDE", "NESTED", "DOCUMENTS"})
+    public SchemaShape shape;
+
+    EntityMapper entityMapper;
+    TransactionMapper transactionMapper;
+    Schema schema;
+    SchemaJson schemaJson;
+    Map<String, Object> data;
+    EntityRow row;
+    Entity entity;
+    DynaBean basicBean;
+
+    /**
+     * Builds the fixture for the selected shape.
+     *
+     * @throws Exception if the fixture cannot be mapped
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final SchemaShape.Fixture fixture = shape.create();
+
+        entityMapper = EntityMapper.INSTANCE;
+        entityMapper.setSchemaService(new InMemorySchemaService(fixture.schemas));
+        transactionMapper = Mappers.getMapper(TransactionMapper.class);
+        transactionMapper.setEntityMapper(entityMapper);
+
+        schema = fixture.schema;
+        schemaJson = SchemaMapper.INSTANCE.schemaToSchemaJson(schema);
+        data = fixture.data;
+        row = EntityRow.builder()
+                .id(UUID.randomUUID())
+                .schema(schema.getName())
+                .entityJson(new ObjectMapper().writeValueAsString(data))
+                .build();
+        entity = entityMapper.entityRowToEntity(row);
+        basicBean = new BasicDynaBean(new BasicDynaClass(schema.getName(), null, schema.getDynaProperties()));
+        for (DynaProperty property : schema.getDynaProperties()) {
+            basicBean.set(property.getName(), entity.get(property.getName()));
+        }
+    }
+}
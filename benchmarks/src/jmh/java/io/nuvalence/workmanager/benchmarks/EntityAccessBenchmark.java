@@ -0,0 +1,79 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Benchmarks for reading and writing entity attributes, compared with the commons-beanutils equivalents.
+ */
+public class EntityAccessBenchmark {
+    private static final String ATTRIBUTE = "attribute0";
+
+    /**
+     * Reads the deepest attribute of the entity through its cached, pre-parsed property path.
+     *
+     * @param state shared fixture
+     * @return attribute value
+     */
+    @Benchmark
+    public Object getPropertyByPath(final DynamicSchemaState state) {
+        return state.entity.getProperty(state.shape.deepestPath, Object.class);
+    }
+
+    /**
+     * Baseline for {@link #getPropertyByPath}: reads the same attribute through PropertyUtils, which parses the path
+     * on every call.
+     *
+     * @param state shared fixture
+     * @return attribute value
+     * @throws IllegalAccessException if the attribute is not accessible
+     * @throws InvocationTargetException if an accessor throws
+     * @throws NoSuchMethodException if the attribute does not exist
+     */
+    @Benchmark
+    public Object getPropertyByPathWithPropertyUtils(final DynamicSchemaState state)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return PropertyUtils.getProperty(state.entity, state.shape.deepestPath);
+    }
+
+    /**
+     * Writes and reads back a top-level attribute of the entity.
+     *
+     * @param state shared fixture
+     * @return attribute value
+     */
+    @Benchmark
+    public Object setAndGet(final DynamicSchemaState state) {
+        final Entity entity = state.entity;
+        entity.set(ATTRIBUTE, entity.get(ATTRIBUTE));
+
+        return entity.get(ATTRIBUTE);
+    }
+
+    /**
+     * Baseline for {@link #setAndGet}: the same access on a BasicDynaBean holding the same attributes.
+     *
+     * @param state shared fixture
+     * @return attribute value
+     */
+    @Benchmark
+    public Object setAndGetWithBasicDynaBean(final DynamicSchemaState state) {
+        state.basicBean.set(ATTRIBUTE, state.basicBean.get(ATTRIBUTE));
+
+        return state.basicBean.get(ATTRIBUTE);
+    }
+
+    /**
+     * Creates an empty entity, allocating its attribute storage.
+     *
+     * @param state shared fixture
+     * @return new entity
+     */
+    @Benchmark
+    public Entity newEntity(final DynamicSchemaState state) {
+        return new Entity(state.schema);
+    }
+}
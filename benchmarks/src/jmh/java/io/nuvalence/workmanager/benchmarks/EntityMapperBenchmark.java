@@ -0,0 +1,104 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Map;
+
+/**
+ * Benchmarks for converting entities between their persisted, generic and compiled forms.
+ */
+public class EntityMapperBenchmark {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+    /**
+     * Loads an entity from its persisted row, streaming JSON tokens directly into entity attributes.
+     *
+     * @param state shared fixture
+     * @return loaded entity
+     * @throws JsonProcessingException if the row cannot be parsed
+     * @throws MissingSchemaException if a schema is missing from the fixture
+     */
+    @Benchmark
+    public Entity entityRowToEntity(final DynamicSchemaState state)
+            throws JsonProcessingException, MissingSchemaException {
+        return state.entityMapper.entityRowToEntity(state.row);
+    }
+
+    /**
+     * Baseline for {@link #entityRowToEntity}: parses the row into a generic map, then applies the map to a new entity.
+     *
+     * @param state shared fixture
+     * @return loaded entity
+     * @throws JsonProcessingException if the row cannot be parsed
+     * @throws MissingSchemaException if a schema is missing from the fixture
+     */
+    @Benchmark
+    public Entity entityRowToEntityThroughMap(final DynamicSchemaState state)
+            throws JsonProcessingException, MissingSchemaException {
+        final Entity entity = new Entity(state.schema, state.row.getId());
+        state.entityMapper.applyMappedPropertiesToEntity(entity, OBJECT_MAPPER.readValue(
+                state.row.getEntityJson(), new TypeReference<Map<String, Object>>() {}));
+
+        return entity;
+    }
+
+    /**
+     * Persists a loaded entity, streaming its attributes directly to JSON.
+     *
+     * @param state shared fixture
+     * @return persisted row
+     * @throws JsonProcessingException if the entity cannot be written
+     */
+    @Benchmark
+    public EntityRow entityToEntityRow(final DynamicSchemaState state) throws JsonProcessingException {
+        return state.entityMapper.entityToEntityRow(state.entity);
+    }
+
+    /**
+     * Baseline for {@link #entityToEntityRow}: converts the entity to a generic map, then writes the map to JSON.
+     *
+     * @param state shared fixture
+     * @return persisted JSON
+     * @throws JsonProcessingException if the entity cannot be written
+     */
+    @Benchmark
+    public String entityToEntityRowThroughMap(final DynamicSchemaState state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsString(state.entityMapper.convertAttributesToGenericMap(state.entity));
+    }
+
+    /**
+     * Converts a loaded entity to the generic map that is serialized to JSON for the API and persistence.
+     *
+     * @param state shared fixture
+     * @return generic map of the entity's attributes
+     */
+    @Benchmark
+    public Map<String, Object> convertAttributesToGenericMap(final DynamicSchemaState state) {
+        return state.entityMapper.convertAttributesToGenericMap(state.entity);
+    }
+
+    /**
+     * Applies generic request data to a new entity, as done on every transaction update.
+     *
+     * @param state shared fixture
+     * @return updated entity
+     * @throws MissingSchemaException if a schema is missing from the fixture
+     */
+    @Benchmark
+    public Entity applyMappedPropertiesToEntity(final DynamicSchemaState state) throws MissingSchemaException {
+        final Entity entity = new Entity(state.schema);
+        state.entityMapper.applyMappedPropertiesToEntity(entity, state.data);
+
+        return entity;
+    }
+}
@@ -0,0 +1,23 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+/**
+ * Benchmarks for validating entities against their schema constraints.
+ */
+public class EntityValidationBenchmark {
+
+    /**
+     * Validates a loaded entity, including nested entities.
+     *
+     * @param state shared fixture
+     * @return constraint violations
+     */
+    @Benchmark
+    public List<ConstraintViolation> validate(final DynamicSchemaState state) {
+        return state.entity.validate();
+    }
+}
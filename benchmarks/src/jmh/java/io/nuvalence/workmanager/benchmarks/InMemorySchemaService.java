@@ -0,0 +1,24 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.service.SchemaService;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Schema service serving compiled schemas from memory, standing in for the cached database lookup.
+ */
+class InMemorySchemaService extends SchemaService {
+    private final Map<String, Schema> schemas;
+
+    InMemorySchemaService(final Map<String, Schema> schemas) {
+        super(null);
+        this.schemas = schemas;
+    }
+
+    @Override
+    public Optional<Schema> getSchemaByName(final String name) {
+        return Optional.ofNullable(schemas.get(name));
+    }
+}
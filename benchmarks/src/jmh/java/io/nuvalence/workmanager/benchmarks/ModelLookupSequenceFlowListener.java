@@ -0,0 +1,52 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.bpmn.listener.ClassDelegateExecutionListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.camunda.bpm.engine.impl.pvm.process.TransitionImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
+
+/**
+ * Baseline for the sequence flow status benchmark: resolves the status properties from the BPMN model instance every
+ * time a sequence flow is taken, as the service did before statuses were read at parse time. Attached to every
+ * sequence flow by {@link ParseListener}.
+ */
+public class ModelLookupSequenceFlowListener implements ExecutionListener {
+    @Override
+    public void notify(final DelegateExecution delegateExecution) {
+        try {
+            final SequenceFlow sequenceFlow = delegateExecution.getBpmnModelElementInstance()
+                    .getModelInstance()
+                    .getModelElementById(delegateExecution.getCurrentTransitionId());
+            for (CamundaProperty property : sequenceFlow.getExtensionElements().getElementsQuery()
+                    .filterByType(CamundaProperties.class).singleResult().getCamundaProperties()) {
+                if (property.getAttributeValue("name").equals("status")) {
+                    delegateExecution.setVariable("status", property.getCamundaValue());
+                }
+                if (property.getAttributeValue("name").equals("publicStatus")) {
+                    delegateExecution.setVariable("publicStatus", property.getCamundaValue());
+                }
+            }
+        } catch (Exception e) {
+            // sequence flow without status properties
+        }
+    }
+
+    /**
+     * Attaches a {@link ModelLookupSequenceFlowListener} to every sequence flow.
+     */
+    public static class ParseListener extends AbstractBpmnParseListener {
+        @Override
+        public void parseSequenceFlow(final Element sequenceFlowElement,
+                                      final ScopeImpl scopeElement,
+                                      final TransitionImpl transition) {
+            transition.addListener(ExecutionListener.EVENTNAME_TAKE,
+                    new ClassDelegateExecutionListener(ModelLookupSequenceFlowListener.class, null));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.mapper.SchemaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks for compiling persisted schemas.
+ */
+public class SchemaMapperBenchmark {
+
+    /**
+     * Compiles a schema from its persisted JSON model.
+     *
+     * @param state shared fixture
+     * @return compiled schema
+     */
+    @Benchmark
+    public Schema schemaJsonToSchema(final DynamicSchemaState state) {
+        return SchemaMapper.INSTANCE.schemaJsonToSchema(state.schemaJson);
+    }
+}
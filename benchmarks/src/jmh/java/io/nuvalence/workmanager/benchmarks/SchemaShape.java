@@ -0,0 +1,183 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import io.nuvalence.workmanager.service.domain.dynamicschema.validation.LengthConstraint;
+import io.nuvalence.workmanager.service.domain.dynamicschema.validation.NotBlankConstraint;
+import io.nuvalence.workmanager.service.domain.dynamicschema.validation.NotNullConstraint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Schemas and matching entity data modeled on the shapes seen in production transactions. Data is generated in the
+ * form it takes after a JSON round trip (numbers, strings, booleans, maps and lists), as it arrives from the API or
+ * from the dynamic_entity table.
+ */
+public enum SchemaShape {
+    /**
+     * A single flat schema with 200 attributes of mixed types; string attributes are constrained.
+     */
+    WIDE("attribute199") {
+        @Override
+        Fixture create() {
+            final Schema.SchemaBuilder builder = Schema.builder().name("benchmark-wide");
+            final Map<String, Object> data = new HashMap<>();
+            for (int i = 0; i < WIDE_ATTRIBUTES; i++) {
+                addScalarProperty(builder, "attribute" + i, i);
+                data.put("attribute" + i, scalarValue(i));
+            }
+
+            final Schema schema = builder.build();
+            return new Fixture(schema, Map.of(schema.getName(), schema), data);
+        }
+    },
+
+    /**
+     * Five levels of nested entities; every level but the last has a single child and a list of two children.
+     */
+    NESTED("child.children[1].child.child.attribute0") {
+        @Override
+        Fixture create() {
+            final Map<String, Schema> schemas = new HashMap<>();
+            Schema child = null;
+            for (int level = NESTED_LEVELS - 1; level >= 0; level--) {
+                final Schema.SchemaBuilder builder = Schema.builder().name("benchmark-nested-" + level);
+                for (int i = 0; i < NESTED_ATTRIBUTES; i++) {
+                    addScalarProperty(builder, "attribute" + i, i);
+                }
+                if (child != null) {
+                    builder.property("child", child);
+                    builder.property("children", List.class, child);
+                }
+                child = builder.build();
+                schemas.put(child.getName(), child);
+            }
+
+            return new Fixture(child, schemas, createNestedData(0));
+        }
+    },
+
+    /**
+     * A form with a handful of attributes and a list of 50 uploaded documents.
+     */
+    DOCUMENTS("documentList[49].fileName") {
+        @Override
+        Fixture create() {
+            final Schema.SchemaBuilder builder = Schema.builder().name("benchmark-documents");
+            final Map<String, Object> data = new HashMap<>();
+            for (int i = 0; i < NESTED_ATTRIBUTES; i++) {
+                addScalarProperty(builder, "attribute" + i, i);
+                data.put("attribute" + i, scalarValue(i));
+            }
+            builder.property("documentList", List.class, Document.class);
+            builder.constraint("documentList", new NotNullConstraint());
+
+            final List<Object> documents = new ArrayList<>();
+            for (int i = 0; i < DOCUMENTS; i++) {
+                documents.add(Map.of(
+                        "documentId", UUID.randomUUID().toString(),
+                        "fileName", "document-" + i + ".pdf",
+                        "fileType", "application/pdf",
+                        "status", "Accepted",
+                        "questionKey", "question" + i
+                ));
+            }
+            data.put("documentList", documents);
+
+            final Schema schema = builder.build();
+            return new Fixture(schema, Map.of(schema.getName(), schema), data);
+        }
+    };
+
+    private static final int WIDE_ATTRIBUTES = 200;
+    private static final int NESTED_LEVELS = 5;
+    private static final int NESTED_ATTRIBUTES = 10;
+    private static final int DOCUMENTS = 50;
+
+    /**
+     * Property path to the deepest attribute of this shape's data.
+     */
+    final String deepestPath;
+
+    SchemaShape(final String deepestPath) {
+        this.deepestPath = deepestPath;
+    }
+
+    /**
+     * Builds the schemas and data for this shape.
+     *
+     * @return schemas and data
+     */
+    abstract Fixture create();
+
+    private static void addScalarProperty(final Schema.SchemaBuilder builder, final String name, final int index) {
+        switch (index % 5) {
+            case 0:
+                builder.property(name, String.class)
+                        .constraint(name, new NotBlankConstraint())
+                        .constraint(name, LengthConstraint.builder().max(255).build());
+                break;
+            case 1:
+                builder.property(name, Integer.class);
+                break;
+            case 2:
+                builder.property(name, BigDecimal.class);
+                break;
+            case 3:
+                builder.property(name, Boolean.class);
+                break;
+            default:
+                builder.property(name, LocalDate.class);
+                break;
+        }
+    }
+
+    private static Object scalarValue(final int index) {
+        switch (index % 5) {
+            case 0:
+                return "value " + index;
+            case 1:
+                return index;
+            case 2:
+                return index + 0.25;
+            case 3:
+                return index % 2 == 0;
+            default:
+                return LocalDate.of(2022, 1, 1).plusDays(index).toString();
+        }
+    }
+
+    private static Map<String, Object> createNestedData(final int level) {
+        final Map<String, Object> data = new HashMap<>();
+        for (int i = 0; i < NESTED_ATTRIBUTES; i++) {
+            data.put("attribute" + i, scalarValue(i));
+        }
+        if (level < NESTED_LEVELS - 1) {
+            data.put("child", createNestedData(level + 1));
+            data.put("children", List.of(createNestedData(level + 1), createNestedData(level + 1)));
+        }
+
+        return data;
+    }
+
+    /**
+     * Root schema of a shape, every schema it references by name, and generic data for an entity of the root schema.
+     */
+    static final class Fixture {
+        final Schema schema;
+        final Map<String, Schema> schemas;
+        final Map<String, Object> data;
+
+        Fixture(final Schema schema, final Map<String, Schema> schemas, final Map<String, Object> data) {
+            this.schema = schema;
+            this.schemas = schemas;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import io.nuvalence.workmanager.service.utils.camunda.H2SqlConfigurationProcessEnginePlugin;
+import io.nuvalence.workmanager.service.utils.camunda.SequenceFlowBpmnParseListener;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks taking the sequence flows of a long workflow in which every other sequence flow sets a status, on an
+ * in-memory process engine without history.
+ */
+@State(Scope.Benchmark)
+public class SequenceFlowStatusBenchmark {
+    private static final String PROCESS_KEY = "benchmark-sequence-flows";
+
+    /**
+     * How statuses are resolved: read once at parse time (the service's listener), or looked up in the BPMN model
+     * instance whenever a sequence flow is taken (the previous listener).
+     */
+    @Param({"PRE_INDEXED", "MODEL_LOOKUP"})
+    public String listener;
+
+    @Param({"200"})
+    public int transitions;
+
+    private ProcessEngine processEngine;
+
+    /**
+     * Builds a process engine with the selected listener and deploys the workflow.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+                .createStandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:" + PROCESS_KEY + "-" + listener + ";DB_CLOSE_DELAY=-1")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+                .setHistory(ProcessEngineConfiguration.HISTORY_NONE)
+                .setJobExecutorActivate(false);
+        final List<ProcessEnginePlugin> plugins = new ArrayList<>(configuration.getProcessEnginePlugins());
+        plugins.add(new H2SqlConfigurationProcessEnginePlugin());
+        configuration.setProcessEnginePlugins(plugins);
+        final List<BpmnParseListener> parseListeners = new ArrayList<>();
+        parseListeners.add("MODEL_LOOKUP".equals(listener)
+                ? new ModelLookupSequenceFlowListener.ParseListener()
+                : new SequenceFlowBpmnParseListener());
+        configuration.setCustomPostBPMNParseListeners(parseListeners);
+
+        processEngine = configuration.buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment()
+                .addString(PROCESS_KEY + ".bpmn", createWorkflow())
+                .deploy();
+    }
+
+    /**
+     * Shuts the process engine down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    /**
+     * Runs the workflow from start to end, taking every sequence flow.
+     *
+     * @return completed process instance
+     */
+    @Benchmark
+    public ProcessInstance takeSequenceFlows() {
+        return processEngine.getRuntimeService().startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    private String createWorkflow() {
+        final StringBuilder bpmn = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"")
+                .append(" xmlns:camunda=\"http://camunda.org/schema/1.0/bpmn\" id=\"definitions\"")
+                .append(" targetNamespace=\"http://bpmn.io/schema/bpmn\">")
+                .append("<bpmn:process id=\"").append(PROCESS_KEY).append("\" isExecutable=\"true\">")
+                .append("<bpmn:startEvent id=\"step0\"/>");
+        for (int i = 1; i <= transitions; i++) {
+            bpmn.append("<bpmn:sequenceFlow id=\"flow").append(i).append("\" sourceRef=\"step").append(i - 1)
+                    .append("\" targetRef=\"step").append(i).append("\">");
+            if (i % 2 == 0) {
+                bpmn.append("<bpmn:extensionElements><camunda:properties>")
+                        .append("<camunda:property name=\"status\" value=\"Status ").append(i).append("\"/>")
+                        .append("<camunda:property name=\"publicStatus\" value=\"Public ").append(i).append("\"/>")
+                        .append("</camunda:properties></bpmn:extensionElements>");
+            }
+            bpmn.append("</bpmn:sequenceFlow>");
+            bpmn.append(i == transitions ? "<bpmn:endEvent id=\"step" : "<bpmn:manualTask id=\"step")
+                    .append(i).append("\"/>");
+        }
+
+        return bpmn.append("</bpmn:process></bpmn:definitions>").toString();
+    }
+}
@@ -0,0 +1,224 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import io.nuvalence.workmanager.service.domain.formconfig.FormConfigDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.repository.EntityRepository;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import io.nuvalence.workmanager.service.utils.jpa.UuidPersistenceConverter;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+/**
+ * Benchmarks creating transactions and their entities through the service's repositories, in one database
+ * transaction per chunk as bulk creation does. Compares saving without JDBC batching, saving with the batch size
+ * configured for the service, and the repositories' {@code insertAll}, which bulk creation uses. The ids are generated
+ * and bound by Hibernate as the service does, as 36-character strings.
+ *
+ * <p>Runs against an in-memory H2 database by default; point it at a PostgreSQL database with the
+ * {@code benchmark.jdbcUrl}, {@code benchmark.jdbcUser} and {@code benchmark.jdbcPassword} system properties for
+ * representative numbers. The schema is migrated with the service's changelog, with native uuid id columns when
+ * {@code benchmark.nativeUuidIds} is true. On PostgreSQL the size of the transaction table's indexes per row is logged
+ * at the end of each trial.</p>
+ */
+@State(Scope.Benchmark)
+public class TransactionInsertBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionInsertBenchmark.class);
+    private static final String DEFINITION_KEY = "benchmark-insert";
+    private static final int TRANSACTIONS_PER_INVOCATION = 100;
+
+    /**
+     * How the rows are written: saved with Hibernate's JDBC batching off ({@code hibernate.jdbc.batch_size} 1), saved
+     * with the service's batch size of 50, or inserted with the repositories' {@code insertAll}.
+     */
+    @Param({"UNBATCHED", "BATCHED", "INSERT_ALL"})
+    public String batching;
+
+    private HikariDataSource dataSource;
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityRepository entityRepository;
+    private TransactionRepository transactionRepository;
+    private JdbcTemplate jdbcTemplate;
+    private UUID transactionDefinitionId;
+
+    /**
+     * Migrates the database, starts the service's JPA repositories and seeds the schema and transaction definition
+     * the transactions are created for.
+     *
+     * @throws Exception if the database cannot be migrated
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbcUrl", "jdbc:h2:mem:" + DEFINITION_KEY + "-"
+                + batching + ";DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS \"JSONB\" AS text"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbcUser", "sa"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbcPassword", ""));
+
+        final SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:/db/changelog/changelog-master.xml");
+        liquibase.setChangeLogParameters(
+                Map.of("nativeUuidIds", String.valueOf(Boolean.getBoolean("benchmark.nativeUuidIds"))));
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean("dataSource", DataSource.class, () -> dataSource);
+        context.registerBean("entityManagerFactory", LocalContainerEntityManagerFactoryBean.class,
+                this::createEntityManagerFactory);
+        context.registerBean("transactionManager", PlatformTransactionManager.class, JpaTransactionManager::new);
+        context.register(Repositories.class);
+        context.refresh();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityRepository = context.getBean(EntityRepository.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionDefinitionId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO dynamic_schema (name, schema_json) VALUES (?, '{}')", schemaName());
+        jdbcTemplate.update("INSERT INTO transaction_definition (id, transaction_definition_key, name, "
+                + "process_definition_key, entity_schema, default_status) VALUES (?, ?, ?, ?, ?, 'new')",
+                transactionDefinitionId.toString(), definitionKey(), definitionKey(), definitionKey(), schemaName());
+    }
+
+    /**
+     * Logs the size of the transaction table's indexes per row where the database reports it (PostgreSQL), then
+     * removes the rows created by the trial and shuts the repositories down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                jdbcTemplate.query("SELECT pg_indexes_size('transaction'), COUNT(*) FROM transaction", result -> {
+                    LOGGER.info("{}: {} transactions, {} index bytes per transaction", batching, result.getLong(2),
+                            String.format("%.1f", (double) result.getLong(1) / result.getLong(2)));
+                });
+            }
+
+            jdbcTemplate.update("DELETE FROM transaction WHERE transaction_definition_id = ?",
+                    transactionDefinitionId.toString());
+            jdbcTemplate.update("DELETE FROM dynamic_entity WHERE schema = ?", schemaName());
+            jdbcTemplate.update("DELETE FROM transaction_definition WHERE id = ?", transactionDefinitionId.toString());
+            jdbcTemplate.update("DELETE FROM dynamic_schema WHERE name = ?", schemaName());
+        } finally {
+            context.close();
+            dataSource.close();
+        }
+    }
+
+    /**
+     * Creates a chunk of transactions and their entities in one database transaction and commits them.
+     *
+     * @return created transactions
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS_PER_INVOCATION)
+    public List<Transaction> createTransactions() {
+        return transactionTemplate.execute(status -> {
+            final List<EntityRow> entities = new ArrayList<>(TRANSACTIONS_PER_INVOCATION);
+            for (int i = 0; i < TRANSACTIONS_PER_INVOCATION; i++) {
+                entities.add(EntityRow.builder().schema(schemaName()).entityJson("{}").build());
+            }
+
+            if ("INSERT_ALL".equals(batching)) {
+                entityRepository.insertAll(entities);
+            } else {
+                entityRepository.saveAll(entities);
+            }
+
+            final OffsetDateTime now = OffsetDateTime.now();
+            final List<Transaction> transactions = entities.stream()
+                    .map(entity -> Transaction.builder()
+                            .transactionDefinitionId(transactionDefinitionId)
+                            .transactionDefinitionKey(definitionKey())
+                            .processInstanceId(UUID.randomUUID().toString())
+                            .entityId(entity.getId())
+                            .status("new")
+                            .priority("medium")
+                            .createdBy("benchmark")
+                            .subjectUserId("benchmark")
+                            .assignedTo("")
+                            .createdTimestamp(now)
+                            .lastUpdatedTimestamp(now)
+                            .build())
+                    .collect(Collectors.toList());
+            if ("INSERT_ALL".equals(batching)) {
+                transactionRepository.insertAll(transactions);
+            } else {
+                transactionRepository.saveAll(transactions);
+            }
+
+            return transactions;
+        });
+    }
+
+    private LocalContainerEntityManagerFactoryBean createEntityManagerFactory() {
+        final LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(EntityRow.class.getPackageName(), FormConfigDefinition.class.getPackageName(),
+                Transaction.class.getPackageName(), UuidPersistenceConverter.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // the service's Hibernate settings (Spring Boot naming, application.yml batching), with the batching variant
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName(),
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, SpringPhysicalNamingStrategy.class.getName(),
+                AvailableSettings.STATEMENT_BATCH_SIZE, "UNBATCHED".equals(batching) ? "1" : "50",
+                AvailableSettings.BATCH_VERSIONED_DATA, "true",
+                AvailableSettings.ORDER_INSERTS, "true",
+                AvailableSettings.ORDER_UPDATES, "true"));
+        return factory;
+    }
+
+    private String definitionKey() {
+        return DEFINITION_KEY + "-" + batching.toLowerCase(Locale.ROOT);
+    }
+
+    private String schemaName() {
+        return definitionKey() + "-schema";
+    }
+
+    /**
+     * Service repositories, with their custom fragments, on the benchmark's entity manager factory.
+     */
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = TransactionRepository.class)
+    static class Repositories {
+    }
+}
@@ -0,0 +1,22 @@
+package io.nuvalence.workmanager.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Map;
+
+/**
+ * Benchmarks for flattening transaction data for form rendering.
+ */
+public class TransactionMapperBenchmark {
+
+    /**
+     * Flattens a loaded entity to a map of property paths to values.
+     *
+     * @param state shared fixture
+     * @return map of property paths to values
+     */
+    @Benchmark
+    public Map<String, Object> entityToPropertyPathMap(final DynamicSchemaState state) {
+        return state.transactionMapper.entityToPropertyPathMap(state.entity);
+    }
+}
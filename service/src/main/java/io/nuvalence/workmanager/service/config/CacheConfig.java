@@ -0,0 +1,56 @@
+package io.nuvalence.workmanager.service.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configures the in-memory caches used by the service layer.
+ * Caches record statistics so that hit/miss metrics are published through actuator, and evictions are deferred
+ * until the surrounding database transaction commits.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String SCHEMA_CACHE = "schemas";
+    public static final String TRANSACTION_DEFINITION_CATEGORY_CACHE = "transactionDefinitionCategories";
+
+    /**
+     * Cache manager holding a bounded, time-limited cache for each named cache in the application.
+     *
+     * @param schemaMaximumSize maximum number of compiled schemas to keep in memory
+     * @param schemaExpireAfterWriteSeconds seconds before a cached schema is reloaded, which bounds how long another
+     *                                      node's schema changes can go unnoticed
+     * @param categoryMaximumSize maximum number of transaction definition categories to keep in memory
+     * @param categoryExpireAfterWriteSeconds seconds before a cached category is reloaded
+     * @return cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.schemas.maximumSize:500}") final long schemaMaximumSize,
+            @Value("${cache.schemas.expireAfterWriteSeconds:300}") final long schemaExpireAfterWriteSeconds,
+            @Value("${cache.transactionDefinitionCategories.maximumSize:500}") final long categoryMaximumSize,
+            @Value("${cache.transactionDefinitionCategories.expireAfterWriteSeconds:300}")
+            final long categoryExpireAfterWriteSeconds) {
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(SCHEMA_CACHE, Caffeine.newBuilder()
+                .maximumSize(schemaMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(schemaExpireAfterWriteSeconds))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TRANSACTION_DEFINITION_CATEGORY_CACHE, Caffeine.newBuilder()
+                .maximumSize(categoryMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(categoryExpireAfterWriteSeconds))
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
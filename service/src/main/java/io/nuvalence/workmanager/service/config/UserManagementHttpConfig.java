@@ -0,0 +1,152 @@
+package io.nuvalence.workmanager.service.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the HTTP transport used to call the User Management API.
+ * Connections are pooled with per-route limits and every request is bounded by connect, pool-lease and read timeouts,
+ * so a slow User Management API cannot hold request threads indefinitely. Calls go through a circuit breaker that
+ * stops calling the API while it is failing. Pool usage and circuit breaker call latency are published as metrics.
+ */
+@Configuration
+public class UserManagementHttpConfig {
+    public static final String POOL_NAME = "user-management";
+    public static final String CIRCUIT_BREAKER_NAME = "userManagement";
+
+    /**
+     * Connection pool shared by all requests to the User Management API.
+     *
+     * @param maxTotalConnections maximum number of open connections
+     * @param maxConnectionsPerRoute maximum number of open connections to a single host
+     * @param validateAfterInactivityMillis idle time after which a pooled connection is checked before reuse
+     * @param meterRegistry registry to publish pool metrics to
+     * @return connection pool
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager userManagementConnectionManager(
+            @Value("${userManagement.http.maxTotalConnections:50}") final int maxTotalConnections,
+            @Value("${userManagement.http.maxConnectionsPerRoute:20}") final int maxConnectionsPerRoute,
+            @Value("${userManagement.http.validateAfterInactivityMillis:2000}") final int validateAfterInactivityMillis,
+            final MeterRegistry meterRegistry) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    /**
+     * HTTP client drawing connections from the User Management connection pool.
+     *
+     * @param connectionManager connection pool
+     * @param connectTimeoutMillis time allowed to establish a connection
+     * @param connectionRequestTimeoutMillis time allowed to lease a connection from the pool
+     * @param readTimeoutMillis time allowed between packets of a response
+     * @param idleConnectionTimeoutSeconds idle time after which pooled connections are closed
+     * @return HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient userManagementHttpClient(
+            @Qualifier("userManagementConnectionManager") final PoolingHttpClientConnectionManager connectionManager,
+            @Value("${userManagement.http.connectTimeoutMillis:2000}") final int connectTimeoutMillis,
+            @Value("${userManagement.http.connectionRequestTimeoutMillis:1000}")
+            final int connectionRequestTimeoutMillis,
+            @Value("${userManagement.http.readTimeoutMillis:5000}") final int readTimeoutMillis,
+            @Value("${userManagement.http.idleConnectionTimeoutSeconds:30}") final long idleConnectionTimeoutSeconds) {
+        return createHttpClient(connectionManager, connectTimeoutMillis, connectionRequestTimeoutMillis,
+                readTimeoutMillis, idleConnectionTimeoutSeconds);
+    }
+
+    /**
+     * RestTemplate for the User Management API, backed by the pooled HTTP client.
+     *
+     * @param httpClient pooled HTTP client
+     * @return RestTemplate
+     */
+    @Bean
+    public RestTemplate userManagementRestTemplate(
+            @Qualifier("userManagementHttpClient") final CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * Circuit breaker guarding calls to the User Management API.
+     * Only server errors and I/O failures (including timeouts) count as failures; client errors such as 404 mean the
+     * API is healthy.
+     *
+     * @param failureRateThreshold percentage of failed calls at which the circuit opens
+     * @param slidingWindowSize number of most recent calls the failure rate is computed over
+     * @param minimumNumberOfCalls number of calls required before the failure rate is computed
+     * @param waitDurationInOpenStateSeconds seconds the circuit stays open before trial calls are let through
+     * @param meterRegistry registry to publish circuit breaker metrics to
+     * @return circuit breaker
+     */
+    @Bean
+    public CircuitBreaker userManagementCircuitBreaker(
+            @Value("${userManagement.circuitBreaker.failureRateThreshold:50}") final float failureRateThreshold,
+            @Value("${userManagement.circuitBreaker.slidingWindowSize:20}") final int slidingWindowSize,
+            @Value("${userManagement.circuitBreaker.minimumNumberOfCalls:10}") final int minimumNumberOfCalls,
+            @Value("${userManagement.circuitBreaker.waitDurationInOpenStateSeconds:30}")
+            final long waitDurationInOpenStateSeconds,
+            final MeterRegistry meterRegistry) {
+        final CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofSeconds(waitDurationInOpenStateSeconds))
+                .recordExceptions(HttpServerErrorException.class, ResourceAccessException.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    }
+
+    /**
+     * Creates an HTTP client with bounded timeouts on top of a connection pool.
+     *
+     * @param connectionManager connection pool
+     * @param connectTimeoutMillis time allowed to establish a connection
+     * @param connectionRequestTimeoutMillis time allowed to lease a connection from the pool
+     * @param readTimeoutMillis time allowed between packets of a response
+     * @param idleConnectionTimeoutSeconds idle time after which pooled connections are closed
+     * @return HTTP client
+     */
+    public static CloseableHttpClient createHttpClient(final PoolingHttpClientConnectionManager connectionManager,
+                                                       final int connectTimeoutMillis,
+                                                       final int connectionRequestTimeoutMillis,
+                                                       final int readTimeoutMillis,
+                                                       final long idleConnectionTimeoutSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleConnectionTimeoutSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package io.nuvalence.workmanager.service.controllers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.auth.WorkerToken;
 import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
@@ -12,6 +13,9 @@ import io.nuvalence.workmanager.service.domain.transaction.TransactionLinkNotAll
 import io.nuvalence.workmanager.service.generated.controllers.TransactionApiDelegate;
 import io.nuvalence.workmanager.service.generated.models.LinkedTransaction;
 import io.nuvalence.workmanager.service.generated.models.PagedTransactionModel;
+import io.nuvalence.workmanager.service.generated.models.TransactionBatchCreationRequest;
+import io.nuvalence.workmanager.service.generated.models.TransactionBatchCreationResponse;
+import io.nuvalence.workmanager.service.generated.models.TransactionBatchCreationResult;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.generated.models.TransactionCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionLinkCreationRequest;
@@ -23,31 +27,50 @@ import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.mapper.OffsetDateTimeMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionLinkMapper;
 import io.nuvalence.workmanager.service.mapper.TransactionMapper;
+import io.nuvalence.workmanager.service.models.InvalidCursorException;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
+import io.nuvalence.workmanager.service.models.TransactionCursorPage;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.service.TransactionBatchService;
 import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.service.TransactionEventService;
 import io.nuvalence.workmanager.service.service.TransactionLinkService;
 import io.nuvalence.workmanager.service.service.TransactionService;
 import io.nuvalence.workmanager.service.service.WorkflowTasksService;
+import io.nuvalence.workmanager.service.usermanagementapi.UserDirectory;
 import io.nuvalence.workmanager.service.usermanagementapi.UserManagementClient;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import javax.ws.rs.ForbiddenException;
+import java.util.stream.IntStream;
 
 /**
  * Controller layer for Transactions.
@@ -58,13 +81,19 @@ import javax.ws.rs.ForbiddenException;
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class TransactionApiDelegateImpl implements TransactionApiDelegate {
     private final TransactionService service;
+    private final TransactionBatchService batchService;
+    private final TransactionEventService eventService;
     private final TransactionMapper mapper;
     private final TransactionDefinitionService transactionDefinitionService;
     private final TransactionLinkService transactionLinkService;
     private final WorkflowTasksService workflowTasksService;
     private final EntityMapper entityMapper;
     private final UserManagementClient userManagementClient;
-    private Map<String, User> users = new HashMap<>();
+    private final UserDirectory userDirectory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transactions.batch.maxSize:1000}")
+    private int maxBatchSize;
 
     @Override
     public ResponseEntity<TransactionModel> getTransaction(UUID id)  {
@@ -88,25 +117,20 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
     public ResponseEntity<List<TransactionModel>> getTransactionsByUser() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null) {
-                if (authentication instanceof WorkerToken) {
-                    String createdByEmail = ((WorkerToken) authentication).getUserEmail();
-                    Optional<User> user = userManagementClient.getUserByEmail(createdByEmail,
-                            ((WorkerToken) authentication).getOriginalToken());
-
-                    return ResponseEntity.ok(service.getTransactionsByUser(user.get().getId().toString())
-                            .stream()
-                            .map(t -> createTransactionModel(t))
-                            .collect(Collectors.toList()));
-                }
+            if (authentication instanceof WorkerToken) {
+                String createdByEmail = ((WorkerToken) authentication).getUserEmail();
+                Optional<User> user = userManagementClient.getUserByEmail(createdByEmail,
+                        ((WorkerToken) authentication).getOriginalToken());
+
+                return ResponseEntity.ok(
+                        createTransactionModels(service.getTransactionsByUser(user.get().getId().toString())));
             }
-            throw new ForbiddenException();
+
+            logMissingWorkerToken(authentication);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         } catch (MissingEntityException e) {
             log.error("One or more transactions reference missing entities.", e);
             return ResponseEntity.status(500).build();
-        } catch (ForbiddenException e) {
-            log.error("Security context authentication not set.");
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
     }
 
@@ -114,11 +138,7 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
     public ResponseEntity<List<TransactionModel>> getTransactions(String transactionDefinitionKey) {
         try {
             return ResponseEntity.ok(
-                    service.getTransactionsForDefinition(transactionDefinitionKey)
-                            .stream()
-                            .map(t -> createTransactionModel(t))
-                            .collect(Collectors.toList())
-            );
+                    createTransactionModels(service.getTransactionsForDefinition(transactionDefinitionKey)));
         } catch (MissingEntityException e) {
             log.error("One or more transactions reference missing entities.", e);
             return ResponseEntity.status(500).build();
@@ -137,7 +157,10 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
                                                                          String sortCol,
                                                                          String sortDir,
                                                                          Integer pageNumber,
-                                                                         Integer pageSize) {
+                                                                         Integer pageSize,
+                                                                         String paginationMode,
+                                                                         String cursor,
+                                                                         Boolean includeTotal) {
         try {
             assignedTo = getAssignedToList(assignedTo, assignedToMe);
 
@@ -153,8 +176,15 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
                     .sortDir(sortDir)
                     .pageNumber(pageNumber)
                     .pageSize(pageSize)
+                    .cursor(cursor)
+                    .includeTotal(includeTotal)
                     .build();
 
+            if ("cursor".equalsIgnoreCase(paginationMode)) {
+                return ResponseEntity.ok(createPagedTransactionModel(
+                        service.getFilteredTransactionsAfterCursor(filters), filters.getPageSizeOrDefault()));
+            }
+
             Page<TransactionModel> results = service.getFilteredTransactions(filters)
                     .map(mapper::transactionToTransactionModel);
 
@@ -167,7 +197,83 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
         } catch (MissingEntityException e) {
             log.error("One or more transactions reference missing entities.", e);
             return ResponseEntity.status(500).build();
+        } catch (InvalidCursorException e) {
+            log.error("Invalid transaction search cursor.", e);
+            return ResponseEntity.status(400).build();
+        }
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportTransactions(String transactionDefinitionKey,
+                                                                    String category,
+                                                                    String startDate,
+                                                                    String endDate,
+                                                                    List<String> priority,
+                                                                    List<String> status,
+                                                                    List<String> assignedTo,
+                                                                    Boolean assignedToMe,
+                                                                    String sortCol,
+                                                                    String sortDir,
+                                                                    String format) {
+        final Optional<TransactionExportFormat> exportFormat = TransactionExportFormat.fromName(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.status(400).build();
         }
+
+        final TransactionFilters filters = TransactionFilters.builder()
+                .transactionDefinitionKey(transactionDefinitionKey)
+                .category(category)
+                .startDate(OffsetDateTimeMapper.INSTANCE.toOffsetDateTimeStartOfDay(startDate))
+                .endDate(OffsetDateTimeMapper.INSTANCE.toOffsetDateTimeEndOfDay(endDate))
+                .priority(priority)
+                .status(status)
+                .assignedTo(getAssignedToList(assignedTo, assignedToMe))
+                .sortCol(sortCol)
+                .sortDir(sortDir)
+                .build();
+
+        // the body is written after this method returns, on an async request thread, within the time allowed by
+        // spring.mvc.async.request-timeout; each chunk is mapped while loaded, and its creators are looked up in the
+        // user management service once the chunk has been released
+        final StreamingResponseBody body = outputStream -> {
+            final TransactionExportWriter writer = exportFormat.get().createWriter(outputStream, objectMapper);
+            writer.start();
+            try {
+                service.exportTransactions(filters, this::toTransactionModels, models -> {
+                    try {
+                        writer.write(addDisplayNames(models));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (MissingEntityException e) {
+                log.error("One or more transactions reference missing entities.", e);
+                throw new IOException("Transaction export aborted.", e);
+            }
+            writer.finish();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.get().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.get().getExtension() + "\"")
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> getTransactionEvents(String transactionDefinitionKey,
+                                                           String category,
+                                                           List<String> assignedTo,
+                                                           Boolean assignedToMe) {
+        final TransactionFilters filters = TransactionFilters.builder()
+                .transactionDefinitionKey(transactionDefinitionKey)
+                .category(category)
+                .assignedTo(getAssignedToList(assignedTo, assignedToMe))
+                .build();
+
+        return ResponseEntity.ok(eventService.subscribe(filters));
     }
 
     @Override
@@ -199,12 +305,7 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
     @Override
     public ResponseEntity<List<TransactionModel>> getTransactionsByCategory(String category) {
         try {
-            return ResponseEntity.ok(
-                    service.getTransactionsByCategory(category)
-                            .stream()
-                            .map(t -> createTransactionModel(t))
-                            .collect(Collectors.toList())
-            );
+            return ResponseEntity.ok(createTransactionModels(service.getTransactionsByCategory(category)));
         } catch (MissingEntityException e) {
             log.error("One or more transactions reference missing entities.", e);
             return ResponseEntity.status(500).build();
@@ -246,19 +347,58 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
         }
     }
 
+    @Override
+    public ResponseEntity<TransactionBatchCreationResponse> postTransactionBatch(
+            TransactionBatchCreationRequest request, String authorization) {
+        final List<TransactionCreationRequest> requests = request.getTransactions();
+        if (requests.size() > maxBatchSize) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        final Map<String, List<Integer>> indexesByKey = IntStream.range(0, requests.size()).boxed()
+                .collect(Collectors.groupingBy(i -> Objects.toString(requests.get(i).getTransactionDefinitionKey(), ""),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        final List<TransactionCreationResult> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        indexesByKey.forEach((key, indexes) -> {
+            final List<TransactionCreationResult> keyResults = createTransactions(key, indexes.size());
+            for (int i = 0; i < indexes.size(); i++) {
+                results.set(indexes.get(i), keyResults.get(i));
+            }
+        });
+
+        final TransactionBatchCreationResponse response = new TransactionBatchCreationResponse();
+        for (int i = 0; i < results.size(); i++) {
+            final TransactionBatchCreationResult result = new TransactionBatchCreationResult();
+            result.setIndex(i);
+            result.setCreated(results.get(i).isCreated());
+            result.setId(results.get(i).getId());
+            result.setError(results.get(i).getError());
+            response.addResultsItem(result);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     @Override
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public ResponseEntity<TransactionModel> updateTransaction(UUID id,
                                                               TransactionUpdateRequest request,
                                                               String taskId) {
         final Transaction transaction;
-        final Transaction updated;
+        Transaction updated;
         try {
             transaction = service.getTransactionById(id).orElse(null);
             if (transaction == null) {
                 return ResponseEntity.notFound().build();
             }
 
+            if (request.getVersion() != null && request.getVersion() != transaction.getVersion()) {
+                log.info(String.format("transaction [%s] is at version %d, not %d.",
+                        id, transaction.getVersion(), request.getVersion()));
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(createTransactionModel(transaction));
+            }
+
             // check request for a valid priority then extract priority
             if (request.getPriority() != null
                     && request.getPriority().toLowerCase().matches("low|medium|high|urgent")) {
@@ -279,12 +419,15 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
         } catch (MissingSchemaException e) {
             log.error(String.format("transaction [%s] contains an entity with missing schema(s).", id), e);
             return ResponseEntity.status(424).build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info(String.format("transaction [%s] was changed concurrently.", id));
+            return conflict(id);
         }
 
         if (taskId != null) {
             try {
                 String condition = request.getCondition() != null ? request.getCondition() : "";
-                service.completeTask(transaction, taskId, condition);
+                updated = service.completeTask(updated, taskId, condition);
             } catch (MissingTaskException e) {
                 log.error(
                         String.format(
@@ -305,6 +448,9 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
                         e
                 );
                 return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY.value()).build();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.info(String.format("transaction [%s] was changed concurrently.", id));
+                return conflict(id);
             }
         }
 
@@ -348,56 +494,134 @@ public class TransactionApiDelegateImpl implements TransactionApiDelegate {
         return ResponseEntity.status(200).body(results);
     }
 
+    private ResponseEntity<TransactionModel> conflict(UUID id) {
+        try {
+            return service.getTransactionById(id)
+                    .map(current -> ResponseEntity.status(HttpStatus.CONFLICT).body(createTransactionModel(current)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (MissingEntityException e) {
+            log.error(String.format("transaction [%s] references missing entity.", id), e);
+            return ResponseEntity.status(424).build();
+        }
+    }
+
+    private List<TransactionCreationResult> createTransactions(String transactionDefinitionKey, int count) {
+        try {
+            final TransactionDefinition definition = transactionDefinitionService
+                    .getTransactionDefinitionByKey(transactionDefinitionKey)
+                    .orElseThrow(() -> new MissingTransactionDefinitionException(transactionDefinitionKey));
+            return batchService.createTransactions(definition, count);
+        } catch (MissingSchemaException e) {
+            log.error(String.format("transaction definition [%s] references missing schema.", transactionDefinitionKey),
+                    e);
+            return Collections.nCopies(count, TransactionCreationResult.failed(e.getMessage()));
+        } catch (MissingTransactionDefinitionException e) {
+            log.error(String.format("ID [%s] references missing transaction definition.", transactionDefinitionKey),
+                    e);
+            return Collections.nCopies(count, TransactionCreationResult.failed(e.getMessage()));
+        }
+    }
+
     private TransactionModel createTransactionModel(Transaction t) {
+        return createTransactionModel(t, getUserByIdFromCache(t.getCreatedBy()));
+    }
+
+    private TransactionModel createTransactionModel(Transaction t, Optional<User> user) {
         TransactionModel transactionModel = mapper.transactionToTransactionModel(t);
-        Optional<User> user = getUserByIdFromCache(t.getCreatedBy());
-        transactionModel.setCreatedByDisplayName(user.get().getDisplayName());
+        setDisplayNames(transactionModel, user);
+        return transactionModel;
+    }
+
+    private void setDisplayNames(TransactionModel transactionModel, Optional<User> user) {
+        transactionModel.setCreatedByDisplayName(user.map(User::getDisplayName).orElse(null));
         // TODO: Once we create a way to submit a transaction on behalf of a different user, we will need to get this
         //  user by subjectUserId, but subjectUserId and createdBy should always be equal for now. This will also
         //  need to be updated in TransactionFactory.java
         Optional<User> subjectUser = user;
-        transactionModel.setSubjectUserDisplayName(subjectUser.get().getDisplayName());
-        return transactionModel;
+        transactionModel.setSubjectUserDisplayName(subjectUser.map(User::getDisplayName).orElse(null));
     }
 
-    private Optional<User> getUserByIdFromCache(String id) {
-        if (users.containsKey(id)) {
-            return Optional.ofNullable(users.get(id));
+    private List<TransactionModel> createTransactionModels(List<Transaction> transactions) {
+        return addDisplayNames(toTransactionModels(transactions));
+    }
+
+    private List<TransactionModel> toTransactionModels(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(mapper::transactionToTransactionModel)
+                .collect(Collectors.toList());
+    }
+
+    private List<TransactionModel> addDisplayNames(List<TransactionModel> transactionModels) {
+        final Set<String> userIds = transactionModels.stream()
+                .map(TransactionModel::getCreatedBy)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<String, User> users = getUsersByIdsFromCache(userIds);
+
+        transactionModels.forEach(model ->
+                setDisplayNames(model, Optional.ofNullable(users.get(model.getCreatedBy()))));
+        return transactionModels;
+    }
+
+    private Map<String, User> getUsersByIdsFromCache(Set<String> ids) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof WorkerToken) {
+            return userDirectory.getUsersByIds(ids, ((WorkerToken) authentication).getOriginalToken());
         }
 
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null) {
-                if (authentication instanceof WorkerToken) {
-                    Optional<User> user = userManagementClient.getUserById(id,
-                            ((WorkerToken) authentication).getOriginalToken());
-                    users.put(id, user.get());
-                    return user;
-                }
-            }
-        } catch (ForbiddenException e) {
-            log.error("Security context authentication not set.");
+        logMissingWorkerToken(authentication);
+        final Map<String, User> users = new HashMap<>();
+        ids.forEach(id -> userDirectory.getCachedUserById(id).ifPresent(user -> users.put(id, user)));
+        return users;
+    }
+
+    private PagedTransactionModel createPagedTransactionModel(TransactionCursorPage page, int pageSize) {
+        PagedTransactionModel model = new PagedTransactionModel();
+        if (page.getTotalCount() != null) {
+            model.totalPages((int) ((page.getTotalCount() + pageSize - 1) / pageSize));
+            model.totalCount(BigDecimal.valueOf(page.getTotalCount()));
         }
-        return Optional.ofNullable(users.get(id));
+        model.nextCursor(page.getNextCursor());
+        model.items(page.getTransactions().stream()
+                .map(mapper::transactionToTransactionModel)
+                .collect(Collectors.toList()));
+
+        return model;
+    }
+
+    private Optional<User> getUserByIdFromCache(String id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof WorkerToken) {
+            return userDirectory.getUserById(id, ((WorkerToken) authentication).getOriginalToken());
+        }
+
+        logMissingWorkerToken(authentication);
+        return userDirectory.getCachedUserById(id);
     }
 
     private List<String> getAssignedToList(List<String> assignedTo, Boolean assignedToMe) {
         if (assignedToMe != null && assignedToMe) {
-            try {
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                if (authentication != null) {
-                    Optional<User> user = userManagementClient.getUserByEmail(
-                            ((WorkerToken) authentication).getUserEmail(),
-                            ((WorkerToken) authentication).getOriginalToken());
-                    if (user.isPresent()) {
-                        assignedTo = List.of(user.get().getId().toString());
-                    }
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication instanceof WorkerToken) {
+                Optional<User> user = userManagementClient.getUserByEmail(
+                        ((WorkerToken) authentication).getUserEmail(),
+                        ((WorkerToken) authentication).getOriginalToken());
+                if (user.isPresent()) {
+                    assignedTo = List.of(user.get().getId().toString());
                 }
-                throw new ForbiddenException();
-            } catch (ForbiddenException e) {
-                log.error("Security context authentication not set.");
+            } else {
+                logMissingWorkerToken(authentication);
             }
         }
         return assignedTo;
     }
+
+    private void logMissingWorkerToken(Authentication authentication) {
+        // other authentication types (e.g. in tests or internal calls) are expected and fall back quietly
+        if (authentication == null) {
+            log.warn("Security context authentication not set.");
+        } else {
+            log.debug("Security context authentication is not a worker token.");
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package io.nuvalence.workmanager.service.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes exported transactions as CSV (RFC 4180), preceded by a header row. The entity data of each transaction is
+ * written as a JSON object in the last column.
+ */
+class TransactionCsvExportWriter implements TransactionExportWriter {
+    private static final String[] HEADER = {
+        "id", "transactionDefinitionId", "transactionDefinitionKey", "processInstanceId", "status", "priority",
+        "district", "assignedTo", "createdBy", "createdByDisplayName", "subjectUserId", "subjectUserDisplayName",
+        "createdTimestamp", "lastUpdatedTimestamp", "version", "data"
+    };
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    TransactionCsvExportWriter(final OutputStream outputStream, final ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() throws IOException {
+        writeRow((Object[]) HEADER);
+    }
+
+    @Override
+    public void write(final List<TransactionModel> transactions) throws IOException {
+        for (TransactionModel transaction : transactions) {
+            writeRow(transaction.getId(), transaction.getTransactionDefinitionId(),
+                    transaction.getTransactionDefinitionKey(), transaction.getProcessInstanceId(),
+                    transaction.getStatus(), transaction.getPriority(), transaction.getDistrict(),
+                    transaction.getAssignedTo(), transaction.getCreatedBy(), transaction.getCreatedByDisplayName(),
+                    transaction.getSubjectUserId(), transaction.getSubjectUserDisplayName(),
+                    transaction.getCreatedTimestamp(), transaction.getLastUpdatedTimestamp(),
+                    transaction.getVersion(), objectMapper.writeValueAsString(transaction.getData()));
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRow(final Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(Objects.toString(values[i], "")));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
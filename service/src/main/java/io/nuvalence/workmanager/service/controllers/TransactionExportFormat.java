@@ -0,0 +1,49 @@
+package io.nuvalence.workmanager.service.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formats transactions can be exported in.
+ */
+@Getter
+@RequiredArgsConstructor
+enum TransactionExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String contentType;
+
+    /**
+     * Finds a format by name, ignoring case. A missing name selects NDJSON.
+     *
+     * @param name name of the format, as passed by clients
+     * @return the format, or empty if there is no format with that name
+     */
+    static Optional<TransactionExportFormat> fromName(final String name) {
+        if (name == null) {
+            return Optional.of(NDJSON);
+        }
+
+        return Arrays.stream(values()).filter(format -> format.extension.equalsIgnoreCase(name)).findFirst();
+    }
+
+    /**
+     * Creates a writer of transactions in this format.
+     *
+     * @param outputStream stream to write to
+     * @param objectMapper mapper used to serialize JSON values
+     * @return writer of transactions
+     */
+    TransactionExportWriter createWriter(final OutputStream outputStream, final ObjectMapper objectMapper) {
+        return this == CSV
+                ? new TransactionCsvExportWriter(outputStream, objectMapper)
+                : new TransactionNdjsonExportWriter(outputStream, objectMapper);
+    }
+}
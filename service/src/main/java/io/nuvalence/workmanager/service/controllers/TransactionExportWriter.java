@@ -0,0 +1,34 @@
+package io.nuvalence.workmanager.service.controllers;
+
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes exported transactions to a response incrementally, one chunk at a time, between a single call to
+ * {@link #start()} and a single call to {@link #finish()}.
+ */
+interface TransactionExportWriter {
+    /**
+     * Writes what precedes the transactions, once, even if there are none to export.
+     *
+     * @throws IOException if it cannot be written
+     */
+    void start() throws IOException;
+
+    /**
+     * Writes a chunk of transactions and flushes it to the client.
+     *
+     * @param transactions transactions to write
+     * @throws IOException if the transactions cannot be written
+     */
+    void write(List<TransactionModel> transactions) throws IOException;
+
+    /**
+     * Writes what follows the transactions and flushes the response.
+     *
+     * @throws IOException if it cannot be written
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,37 @@
+package io.nuvalence.workmanager.service.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.generated.models.TransactionModel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes exported transactions as newline-delimited JSON: one transaction model per line.
+ */
+@RequiredArgsConstructor
+class TransactionNdjsonExportWriter implements TransactionExportWriter {
+    private final OutputStream outputStream;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void start() {
+        // nothing precedes the first transaction
+    }
+
+    @Override
+    public void write(final List<TransactionModel> transactions) throws IOException {
+        for (TransactionModel transaction : transactions) {
+            outputStream.write(objectMapper.writeValueAsBytes(transaction));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        outputStream.flush();
+    }
+}
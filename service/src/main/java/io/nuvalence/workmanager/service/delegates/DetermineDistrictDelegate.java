@@ -1,7 +1,5 @@
 package io.nuvalence.workmanager.service.delegates;
 
-import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
-import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +11,8 @@ import javax.inject.Named;
 
 /**
  * Delegate class for determining a district.
+ * The district is written with a targeted update of the transaction, so neither the transaction nor its entity is
+ * loaded.
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -22,23 +22,10 @@ public class DetermineDistrictDelegate implements JavaDelegate {
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
-        final Transaction transaction;
+        final String district = Objects.toString(execution.getVariable("district"), null);
 
-        try {
-            transaction = service.getTransactionByProcessInstanceId(execution.getProcessInstanceId()).orElse(null);
-            if (transaction == null) {
-                return;
-            }
-
-            Object district = execution.getVariable("district");
-
-            String districtVal = district != null ? district.toString() : null;
-            if (!Objects.equals(transaction.getDistrict(), districtVal)) {
-                transaction.setDistrict(districtVal);
-                service.updateTransaction(transaction);
-            }
-        } catch (MissingEntityException e) {
-            log.error("transaction references missing entity.", e);
+        if (!service.updateDistrictByProcessInstanceId(execution.getProcessInstanceId(), district)) {
+            log.debug("District of process instance {} left unchanged.", execution.getProcessInstanceId());
         }
     }
 }
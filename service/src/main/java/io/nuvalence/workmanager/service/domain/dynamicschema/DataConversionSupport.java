@@ -10,22 +10,29 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
  * Utility to support conversion of data unmarshalled from JSON to their intended types defined by schema.
+ * Converters for additional types can be added at runtime with {@link #register(Class, Class, Function)}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public final class DataConversionSupport {
-    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> converters;
+    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> converters = new LinkedHashMap<>();
+
+    /**
+     * Converters resolved from a snapshot of the registered converters, replaced whenever a converter is registered.
+     */
+    private static volatile ConverterTable converterTable = new ConverterTable(Map.of());
 
     static {
-        converters = new HashMap<>();
         register(Double.class, BigDecimal.class, DataConversionSupport::convertDoubleToBigDecimal);
         register(Integer.class, BigDecimal.class, DataConversionSupport::convertIntegerToBigDecimal);
         register(String.class, BigDecimal.class, DataConversionSupport::convertStringToBigDecimal);
@@ -41,8 +48,6 @@ public final class DataConversionSupport {
         register(Map.class, Document.class, DataConversionSupport::convertMapToDocument);
     }
 
-
-
     /**
      * Converts the given value to the requested type, if a converter exists.
      *
@@ -57,34 +62,82 @@ public final class DataConversionSupport {
             return type.cast(value);
         }
 
-        return findConverter(inputType, type)
+        @SuppressWarnings("unchecked")
+        final Function<Object, T> converter = (Function<Object, T>) converterTable.find(inputType, type)
                 .orElseThrow(() -> new UnsupportedOperationException(String.format(
                         "No converter found to convert %s to %s",
                         value.getClass().getName(),
                         type.getName()
-                )))
-                .apply(inputType.cast(value));
+                )));
+
+        return converter.apply(value);
     }
 
-    private static <T, R> void register(final Class<T> from, final Class<R> to, final Function<T, R> converter) {
-        converters.computeIfAbsent(from, (key) -> new HashMap<>()).put(to, converter);
+    /**
+     * Registers a converter between two types, replacing any converter previously registered between them. Values
+     * of the input type or any of its subtypes can then be converted to the output type or any of its supertypes.
+     *
+     * @param from input type
+     * @param to output type
+     * @param converter function converting values of the input type to the output type
+     * @param <T> input type
+     * @param <R> output type
+     */
+    public static synchronized <T, R> void register(final Class<T> from,
+                                                    final Class<R> to,
+                                                    final Function<T, R> converter) {
+        converters.computeIfAbsent(from, (key) -> new LinkedHashMap<>()).put(to, converter);
+
+        final Map<Class<?>, Map<Class<?>, Function<?, ?>>> snapshot = new LinkedHashMap<>();
+        converters.forEach((input, candidates) -> snapshot.put(input, new LinkedHashMap<>(candidates)));
+        converterTable = new ConverterTable(snapshot);
     }
 
-    private static <T, R> Optional<Function<Object, R>> findConverter(final Class<T> from, final Class<R> to) {
-        for (Class<?> inputType : converters.keySet()) {
-            if (inputType.isAssignableFrom(from)) {
-                final Map<Class<?>, Function<?, ?>> candidates = converters.get(inputType);
-                for (Class<?> outputType : candidates.keySet()) {
-                    if (to.isAssignableFrom(outputType)) {
-                        @SuppressWarnings("unchecked")
-                        final Function<Object, R> converter = (Function<Object, R>) candidates.get(outputType);
-                        return Optional.of(converter);
+    /**
+     * Registers a converter from strings to constants of an enum type, by constant name. Empty strings convert to
+     * null.
+     *
+     * @param type enum type
+     * @param <E> enum type
+     */
+    public static <E extends Enum<E>> void registerEnum(final Class<E> type) {
+        register(String.class, type, (value) -> value.isEmpty() ? null : Enum.valueOf(type, value));
+    }
+
+    /**
+     * Converters looked up by input type, then by output type. Each pair of types is resolved against the registered
+     * converters once; subsequent conversions between the same types reuse the resolved converter.
+     */
+    private static final class ConverterTable
+            extends ClassValue<ConcurrentMap<Class<?>, Optional<Function<?, ?>>>> {
+        private final Map<Class<?>, Map<Class<?>, Function<?, ?>>> registered;
+
+        private ConverterTable(final Map<Class<?>, Map<Class<?>, Function<?, ?>>> registered) {
+            this.registered = registered;
+        }
+
+        @Override
+        protected ConcurrentMap<Class<?>, Optional<Function<?, ?>>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+
+        private Optional<Function<?, ?>> find(final Class<?> from, final Class<?> to) {
+            return get(from).computeIfAbsent(to, (key) -> resolve(from, key));
+        }
+
+        private Optional<Function<?, ?>> resolve(final Class<?> from, final Class<?> to) {
+            for (Map.Entry<Class<?>, Map<Class<?>, Function<?, ?>>> input : registered.entrySet()) {
+                if (input.getKey().isAssignableFrom(from)) {
+                    for (Map.Entry<Class<?>, Function<?, ?>> output : input.getValue().entrySet()) {
+                        if (to.isAssignableFrom(output.getKey())) {
+                            return Optional.of(output.getValue());
+                        }
                     }
                 }
             }
-        }
 
-        return Optional.empty();
+            return Optional.empty();
+        }
     }
 
     private static LocalDate convertStringToLocalDate(final String value) {
@@ -3,23 +3,26 @@ package io.nuvalence.workmanager.service.domain.dynamicschema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.Constraint;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.ConstraintViolation;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.ValidationContext;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaProperty;
-import org.apache.commons.beanutils.PropertyUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Represents a single instance of a data object with a dynamically configured schema.
  */
-@ToString
+@ToString(exclude = "dirtyAttributes")
 public final class Entity implements DynaBean {
     @Getter
     private final Schema schema;
@@ -28,8 +31,21 @@ public final class Entity implements DynaBean {
     private final UUID id;
 
     @Delegate
+    @Getter(AccessLevel.PACKAGE)
     private final DynaBean attributes;
 
+    /**
+     * Version of the persisted row this Entity was read from or last written to, or null if that is not known.
+     */
+    @Getter
+    @Setter
+    private transient Long version;
+
+    /**
+     * Names of the attributes set on this Entity since it was constructed or last marked clean.
+     */
+    private final transient Set<String> dirtyAttributes = new HashSet<>();
+
     /**
      * Constructs new Entity with a given schema.
      *
@@ -48,15 +64,11 @@ public final class Entity implements DynaBean {
     public Entity(final Schema schema, final UUID id) {
         this.schema = schema;
         this.id = id;
-        try {
-            this.attributes = schema.newInstance();
-            for (DynaProperty property : schema.getDynaProperties()) {
-                if (List.class.isAssignableFrom(property.getType())) {
-                    attributes.set(property.getName(), new ArrayList<>());
-                }
+        this.attributes = schema.newInstance();
+        for (DynaProperty property : schema.getDynaProperties()) {
+            if (List.class.isAssignableFrom(property.getType())) {
+                attributes.set(property.getName(), new ArrayList<>());
             }
-        } catch (IllegalAccessException | InstantiationException e) {
-            throw new RuntimeException("Unable to instantiate new " + schema.getName(), e);
         }
     }
 
@@ -70,7 +82,7 @@ public final class Entity implements DynaBean {
      */
     public <T> T getProperty(final String path, final Class<T> type) {
         try {
-            return type.cast(PropertyUtils.getProperty(attributes, path));
+            return type.cast(schema.getPropertyPath(path).get(attributes));
         } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             throw new IllegalArgumentException(
                     "Unable to access path: " + path + " as type " + type.getSimpleName(),
@@ -79,6 +91,88 @@ public final class Entity implements DynaBean {
         }
     }
 
+    /**
+     * Sets a simple attribute. The Entity only becomes dirty if the new value differs from the current one, in which
+     * case the current value is kept.
+     *
+     * @param name name of the attribute
+     * @param value new value
+     */
+    @Override
+    public void set(final String name, final Object value) {
+        if (!Objects.equals(attributes.get(name), value)) {
+            attributes.set(name, value);
+            dirtyAttributes.add(name);
+        }
+    }
+
+    @Override
+    public void set(final String name, final int index, final Object value) {
+        attributes.set(name, index, value);
+        dirtyAttributes.add(name);
+    }
+
+    @Override
+    public void set(final String name, final String key, final Object value) {
+        attributes.set(name, key, value);
+        dirtyAttributes.add(name);
+    }
+
+    @Override
+    public void remove(final String name, final String key) {
+        attributes.remove(name, key);
+        dirtyAttributes.add(name);
+    }
+
+    /**
+     * Whether this Entity, or an Entity nested in it, changed since it was constructed or last marked clean. Changes
+     * made to a list attribute in place, rather than through this Entity's methods, are not tracked.
+     *
+     * @return true if the Entity has changes that are not persisted
+     */
+    public boolean isDirty() {
+        if (!dirtyAttributes.isEmpty()) {
+            return true;
+        }
+
+        for (String name : schema.getRelatedSchemas().keySet()) {
+            if (hasDirtyRelatedEntity(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the names of the attributes that changed since this Entity was constructed or last marked clean. An
+     * attribute holding nested Entities counts as changed when one of those Entities changed.
+     *
+     * @return names of changed attributes
+     */
+    public Set<String> getDirtyAttributes() {
+        final Set<String> names = new HashSet<>(dirtyAttributes);
+        for (String name : schema.getRelatedSchemas().keySet()) {
+            if (!names.contains(name) && hasDirtyRelatedEntity(name)) {
+                names.add(name);
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Marks this Entity and all Entities nested in it as matching their persisted state.
+     */
+    public void markClean() {
+        dirtyAttributes.clear();
+        for (String name : schema.getRelatedSchemas().keySet()) {
+            for (Entity related : getRelatedEntities(name)) {
+                related.markClean();
+            }
+        }
+    }
+
     /**
      * Adds an element to a list attribute.
      *
@@ -91,6 +185,7 @@ public final class Entity implements DynaBean {
         }
         @SuppressWarnings("unchecked") final List<Object> list = (List<Object>) get(name);
         list.add(value);
+        dirtyAttributes.add(name);
     }
 
     /**
@@ -146,6 +241,32 @@ public final class Entity implements DynaBean {
         }
     }
 
+    private boolean hasDirtyRelatedEntity(final String name) {
+        for (Entity related : getRelatedEntities(name)) {
+            if (related.isDirty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private List<Entity> getRelatedEntities(final String name) {
+        final Object value = attributes.get(name);
+        final List<Entity> related = new ArrayList<>();
+        if (value instanceof Entity) {
+            related.add((Entity) value);
+        } else if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                if (element instanceof Entity) {
+                    related.add((Entity) element);
+                }
+            }
+        }
+
+        return related;
+    }
+
     private boolean isList(final String name) {
         return List.class.isAssignableFrom(schema.getDynaProperty(name).getType());
     }
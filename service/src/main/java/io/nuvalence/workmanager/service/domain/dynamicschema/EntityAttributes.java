@@ -0,0 +1,227 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import lombok.Getter;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaClass;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Attribute values of an entity, stored in an array indexed by the attribute ordinals compiled into its
+ * {@link Schema}. Behaves like {@link org.apache.commons.beanutils.BasicDynaBean}, without a value map per instance.
+ */
+final class EntityAttributes implements DynaBean {
+    @Getter
+    private final Schema schema;
+
+    private final Object[] values;
+
+    EntityAttributes(final Schema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.getDynaProperties().length];
+    }
+
+    /**
+     * Gets the value of the attribute with the given ordinal, as {@link #get(String)} would.
+     *
+     * @param ordinal attribute ordinal, as returned by {@link Schema#getOrdinal(String)}
+     * @return attribute value
+     */
+    Object get(final int ordinal) {
+        final Object value = values[ordinal];
+        if (value != null) {
+            return value;
+        }
+
+        return defaultValue(schema.getDynaProperties()[ordinal].getType());
+    }
+
+    @Override
+    public boolean contains(final String name, final String key) {
+        final Object value = values[ordinalOf(name)];
+        if (value == null) {
+            throw new NullPointerException("No mapped value for '" + name + "(" + key + ")'");
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).containsKey(key);
+        }
+
+        throw new IllegalArgumentException("Non-mapped property for '" + name + "(" + key + ")'");
+    }
+
+    @Override
+    public Object get(final String name) {
+        return get(ordinalOf(name));
+    }
+
+    @Override
+    public Object get(final String name, final int index) {
+        return getIndexed(name, values[ordinalOf(name)], index);
+    }
+
+    @Override
+    public Object get(final String name, final String key) {
+        return getMapped(name, values[ordinalOf(name)], key);
+    }
+
+    @Override
+    public DynaClass getDynaClass() {
+        return schema;
+    }
+
+    @Override
+    public void remove(final String name, final String key) {
+        final Object value = values[ordinalOf(name)];
+        if (value == null) {
+            throw new NullPointerException("No mapped value for '" + name + "(" + key + ")'");
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).remove(key);
+        } else {
+            throw new IllegalArgumentException("Non-mapped property for '" + name + "(" + key + ")'");
+        }
+    }
+
+    @Override
+    public void set(final String name, final Object value) {
+        final int ordinal = ordinalOf(name);
+        final Class<?> type = schema.getDynaProperties()[ordinal].getType();
+        if (value == null) {
+            if (type.isPrimitive()) {
+                throw new NullPointerException("Primitive value for '" + name + "'");
+            }
+        } else if (!isAssignable(type, value.getClass())) {
+            throw new ConversionException("Cannot assign value of type '" + value.getClass().getName()
+                    + "' to property '" + name + "' of type '" + type.getName() + "'");
+        }
+
+        values[ordinal] = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void set(final String name, final int index, final Object value) {
+        final Object prop = values[ordinalOf(name)];
+        if (prop == null) {
+            throw new NullPointerException("No indexed value for '" + name + "[" + index + "]'");
+        } else if (prop.getClass().isArray()) {
+            Array.set(prop, index, value);
+        } else if (prop instanceof List) {
+            ((List<Object>) prop).set(index, value);
+        } else {
+            throw new IllegalArgumentException("Non-indexed property for '" + name + "[" + index + "]'");
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void set(final String name, final String key, final Object value) {
+        final Object prop = values[ordinalOf(name)];
+        if (prop == null) {
+            throw new NullPointerException("No mapped value for '" + name + "(" + key + ")'");
+        } else if (prop instanceof Map) {
+            ((Map<String, Object>) prop).put(key, value);
+        } else {
+            throw new IllegalArgumentException("Non-mapped property for '" + name + "(" + key + ")'");
+        }
+    }
+
+    /**
+     * Gets an element of an indexed (array or list) attribute value.
+     *
+     * @param name attribute name, for error messages
+     * @param value attribute value
+     * @param index element index
+     * @return element at index
+     */
+    static Object getIndexed(final String name, final Object value, final int index) {
+        if (value == null) {
+            throw new NullPointerException("No indexed value for '" + name + "[" + index + "]'");
+        } else if (value.getClass().isArray()) {
+            return Array.get(value, index);
+        } else if (value instanceof List) {
+            return ((List<?>) value).get(index);
+        }
+
+        throw new IllegalArgumentException("Non-indexed property for '" + name + "[" + index + "]'");
+    }
+
+    /**
+     * Gets an entry of a mapped attribute value.
+     *
+     * @param name attribute name, for error messages
+     * @param value attribute value
+     * @param key entry key
+     * @return entry value
+     */
+    static Object getMapped(final String name, final Object value, final String key) {
+        if (value == null) {
+            throw new NullPointerException("No mapped value for '" + name + "(" + key + ")'");
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(key);
+        }
+
+        throw new IllegalArgumentException("Non-mapped property for '" + name + "(" + key + ")'");
+    }
+
+    private int ordinalOf(final String name) {
+        final int ordinal = schema.getOrdinal(name);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Invalid property name '" + name + "'");
+        }
+
+        return ordinal;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static Object defaultValue(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == Boolean.TYPE) {
+            return Boolean.FALSE;
+        } else if (type == Byte.TYPE) {
+            return (byte) 0;
+        } else if (type == Character.TYPE) {
+            return (char) 0;
+        } else if (type == Double.TYPE) {
+            return 0.0d;
+        } else if (type == Float.TYPE) {
+            return 0.0f;
+        } else if (type == Integer.TYPE) {
+            return 0;
+        } else if (type == Long.TYPE) {
+            return 0L;
+        }
+
+        return (short) 0;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static boolean isAssignable(final Class<?> dest, final Class<?> source) {
+        return dest.isAssignableFrom(source)
+                || dest == Boolean.TYPE && source == Boolean.class
+                || dest == Byte.TYPE && source == Byte.class
+                || dest == Character.TYPE && source == Character.class
+                || dest == Double.TYPE && source == Double.class
+                || dest == Float.TYPE && source == Float.class
+                || dest == Integer.TYPE && source == Integer.class
+                || dest == Long.TYPE && source == Long.class
+                || dest == Short.TYPE && source == Short.class;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(schema.getName()).append('{');
+        final DynaProperty[] properties = schema.getDynaProperties();
+        for (int i = 0; i < properties.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(properties[i].getName()).append('=').append(values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,160 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.NestedNullException;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.expression.DefaultResolver;
+import org.apache.commons.beanutils.expression.Resolver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expression Language (EL) property path, parsed once into its segments so that repeated reads do not re-tokenize the
+ * expression. Segments read from entities by attribute ordinal; any other bean along the path is handed over to
+ * {@link PropertyUtils} with the remainder of the expression.
+ */
+final class PropertyPath {
+    private static final Resolver RESOLVER = new DefaultResolver();
+
+    private final String path;
+    private final Segment[] segments;
+
+    private PropertyPath(final String path, final Segment[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a property path using the same syntax as {@link PropertyUtils#getProperty(Object, String)}: nested
+     * properties separated by '.', indexed properties as name[index] and mapped properties as name(key).
+     *
+     * @param path property path
+     * @return parsed path
+     */
+    static PropertyPath parse(final String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("No name specified for path '" + path + "'");
+        }
+
+        final List<Segment> segments = new ArrayList<>();
+        String remainder = path;
+        while (remainder != null && !remainder.isEmpty()) {
+            final String next = RESOLVER.next(remainder);
+            segments.add(new Segment(
+                    RESOLVER.getProperty(next),
+                    RESOLVER.isIndexed(next) ? RESOLVER.getIndex(next) : -1,
+                    RESOLVER.isMapped(next) ? RESOLVER.getKey(next) : null,
+                    remainder
+            ));
+            remainder = RESOLVER.remove(remainder);
+        }
+
+        return new PropertyPath(path, segments.toArray(Segment[]::new));
+    }
+
+    /**
+     * Reads the value at this path.
+     *
+     * @param bean bean to read from
+     * @return property value
+     * @throws IllegalAccessException if a property along the path is not accessible
+     * @throws InvocationTargetException if a property accessor along the path throws
+     * @throws NoSuchMethodException if a property along the path does not exist
+     */
+    Object get(final DynaBean bean)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Object current = bean;
+        for (int i = 0; i < segments.length; i++) {
+            final Segment segment = segments[i];
+            if (current == null) {
+                throw new NestedNullException("Null property value for '" + segments[i - 1].name
+                        + "' in path '" + path + "'");
+            }
+
+            if (!(current instanceof DynaBean)) {
+                return PropertyUtils.getProperty(current, segment.expression);
+            }
+
+            current = segment.get((DynaBean) current);
+        }
+
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static final class Segment {
+        private final String name;
+        private final int index;
+        private final String key;
+        private final String expression;
+
+        /**
+         * Ordinal of this segment's attribute in the schema it was last read from. Bindings are immutable, so racing
+         * readers at worst resolve the ordinal more than once.
+         */
+        private Binding binding;
+
+        private Segment(final String name, final int index, final String key, final String expression) {
+            this.name = name;
+            this.index = index;
+            this.key = key;
+            this.expression = expression;
+        }
+
+        private Object get(final DynaBean bean) throws NoSuchMethodException {
+            final DynaBean target = bean instanceof Entity ? ((Entity) bean).getAttributes() : bean;
+            final Object value;
+            if (target instanceof EntityAttributes) {
+                value = ((EntityAttributes) target).get(ordinalIn(((EntityAttributes) target).getSchema()));
+            } else if (target.getDynaClass().getDynaProperty(name) != null) {
+                value = target.get(name);
+            } else {
+                throw unknownProperty(target);
+            }
+
+            if (index >= 0) {
+                return EntityAttributes.getIndexed(name, value, index);
+            } else if (key != null) {
+                return EntityAttributes.getMapped(name, value, key);
+            }
+
+            return value;
+        }
+
+        private int ordinalIn(final Schema schema) throws NoSuchMethodException {
+            Binding current = binding;
+            if (current == null || current.schema != schema) {
+                current = new Binding(schema, schema.getOrdinal(name));
+                binding = current;
+            }
+
+            if (current.ordinal < 0) {
+                throw new NoSuchMethodException("Unknown property '" + name + "' on dynaclass '"
+                        + schema.getName() + "'");
+            }
+
+            return current.ordinal;
+        }
+
+        private NoSuchMethodException unknownProperty(final DynaBean bean) {
+            return new NoSuchMethodException("Unknown property '" + name + "' on dynaclass '"
+                    + bean.getDynaClass().getName() + "'");
+        }
+    }
+
+    private static final class Binding {
+        private final Schema schema;
+        private final int ordinal;
+
+        private Binding(final Schema schema, final int ordinal) {
+            this.schema = schema;
+            this.ordinal = ordinal;
+        }
+    }
+}
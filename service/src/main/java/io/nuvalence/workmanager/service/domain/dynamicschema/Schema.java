@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 import org.apache.commons.beanutils.BasicDynaClass;
+import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaClass;
 import org.apache.commons.beanutils.DynaProperty;
 
@@ -16,15 +17,22 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Dynamically configured schema.
  */
-@ToString
+@ToString(exclude = {"ordinals", "propertyPaths"})
 public final class Schema implements DynaClass {
-    @Delegate
+    private static final int MAX_CACHED_PROPERTY_PATHS = 1024;
+
+    @Delegate(excludes = InstanceFactory.class)
     private final DynaClass dynaClass;
 
+    private final Map<String, Integer> ordinals;
+
+    private final Map<String, PropertyPath> propertyPaths = new ConcurrentHashMap<>();
+
     @Getter
     private final Map<String, String> relatedSchemas;
 
@@ -45,10 +53,52 @@ public final class Schema implements DynaClass {
                   final Map<String, String> relatedSchemas,
                   final Map<String, List<Constraint<?>>> constraints) {
         this.dynaClass = new BasicDynaClass(name, null, properties.toArray(DynaProperty[]::new));
+        this.ordinals = new HashMap<>();
+        for (DynaProperty property : properties) {
+            ordinals.putIfAbsent(property.getName(), ordinals.size());
+        }
         this.relatedSchemas = relatedSchemas;
         this.constraints = constraints;
     }
 
+    /**
+     * Creates a new, empty set of attribute values for this schema.
+     *
+     * @return attribute values, stored by attribute ordinal
+     */
+    @Override
+    public DynaBean newInstance() {
+        return new EntityAttributes(this);
+    }
+
+    /**
+     * Gets the position of an attribute in this schema's property array.
+     *
+     * @param name attribute name
+     * @return attribute ordinal, or -1 if this schema has no such attribute
+     */
+    int getOrdinal(final String name) {
+        final Integer ordinal = ordinals.get(name);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Gets a parsed property path, reusing previously parsed paths where possible.
+     *
+     * @param path Expression Language (EL) path
+     * @return parsed path
+     */
+    PropertyPath getPropertyPath(final String path) {
+        final PropertyPath cached = propertyPaths.get(path);
+        if (cached != null) {
+            return cached;
+        } else if (propertyPaths.size() >= MAX_CACHED_PROPERTY_PATHS) {
+            return PropertyPath.parse(path);
+        }
+
+        return propertyPaths.computeIfAbsent(path, PropertyPath::parse);
+    }
+
     /**
      * Returns true if object under test is equal to this Schema.
      *
@@ -100,6 +150,13 @@ public final class Schema implements DynaClass {
         return result;
     }
 
+    /**
+     * DynaClass methods that Schema implements itself rather than delegating.
+     */
+    private interface InstanceFactory {
+        DynaBean newInstance();
+    }
+
     /**
      * Fluent builder for Schema instances.
      */
@@ -18,6 +18,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 /**
  * Represents a single row in the dynamic_entity table.
@@ -48,6 +49,13 @@ public class EntityRow {
     @Column(name = "entity_json", nullable = false, columnDefinition = "json")
     private String entityJson;
 
+    /**
+     * Row version, checked and incremented on every update so concurrent writers cannot overwrite each other.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
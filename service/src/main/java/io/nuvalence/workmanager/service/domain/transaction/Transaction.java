@@ -7,29 +7,37 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PostLoad;
 import javax.persistence.Table;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 
 /**
  * Defines the structure and behavior of a transaction.
+ * Updates only write the columns that changed. Concurrent writers are detected through the version, which every
+ * update increments, including the bulk district update; the losing writer fails rather than overwriting the change.
  */
 @Getter
 @NoArgsConstructor
 @javax.persistence.Entity
 @Table(name = "transaction")
-@ToString(exclude = {"data"})
+@DynamicUpdate
+@ToString(exclude = {"data", "transactionDefinition", "countedAs"})
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class Transaction {
     @Id
@@ -45,7 +53,11 @@ public class Transaction {
     @Column(name = "transaction_definition_key", length = 255, nullable = false)
     private String transactionDefinitionKey;
 
-    @ManyToOne(cascade = CascadeType.ALL)
+    /**
+     * Read-only view of the definition referenced by transactionDefinitionId. It is loaded lazily so that transaction
+     * queries only fetch definitions (and their form mappings) when a caller navigates the association.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "transaction_definition_id", nullable = false, insertable = false, updatable = false)
     private TransactionDefinition transactionDefinition;
 
@@ -76,6 +88,7 @@ public class Transaction {
     @Column(name = "created_timestamp", nullable = false)
     private OffsetDateTime createdTimestamp;
 
+    @Setter
     @Column(name = "last_updated_timestamp", nullable = false)
     private OffsetDateTime lastUpdatedTimestamp;
 
@@ -83,9 +96,23 @@ public class Transaction {
     @Column(name = "assigned_to", length = 64)
     private String assignedTo;
 
+    /**
+     * Row version, checked and incremented on every update so concurrent writers cannot overwrite each other.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Transient
     private transient Entity data;
 
+    /**
+     * Bucket of the materialized status counts this transaction was last counted in, captured when it is loaded.
+     */
+    @Setter
+    @Transient
+    private transient TransactionStatusCounterKey countedAs;
+
     /**
      * Constructs a new instance of a Transaction.
      *
@@ -142,6 +169,32 @@ public class Transaction {
         data = entityService.getEntityById(entityId).orElseThrow(() -> new MissingEntityException(entityId));
     }
 
+    /**
+     * Loads the transient entity reference from a batch of entities that were fetched ahead of time.
+     *
+     * @param entities Map of entity ID to entity, as returned by {@link EntityService#getEntitiesByIds}
+     * @throws MissingEntityException If the referenced entity is missing from the batch.
+     */
+    public void loadEntity(final Map<UUID, Entity> entities) throws MissingEntityException {
+        data = Optional.ofNullable(entities.get(entityId)).orElseThrow(() -> new MissingEntityException(entityId));
+    }
+
+    /**
+     * Takes over the transient state, the loaded entity and the count bucket, of the detached transaction this one was
+     * merged from. Merging copies only the persistent state.
+     *
+     * @param detached transaction that was merged into this one
+     */
+    public void copyTransientState(final Transaction detached) {
+        data = detached.data;
+        countedAs = detached.countedAs;
+    }
+
+    @PostLoad
+    void captureCountedAs() {
+        countedAs = TransactionStatusCounterKey.of(this);
+    }
+
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     @Override
     public boolean equals(Object o) {
@@ -165,8 +218,7 @@ public class Transaction {
                 && Objects.equals(district, that.district)
                 && Objects.equals(createdTimestamp, that.createdTimestamp)
                 && Objects.equals(lastUpdatedTimestamp, that.lastUpdatedTimestamp)
-                && Objects.equals(assignedTo, that.assignedTo)
-                && Objects.equals(transactionDefinition, that.transactionDefinition);
+                && Objects.equals(assignedTo, that.assignedTo);
     }
 
     @Override
@@ -183,8 +235,7 @@ public class Transaction {
                 district,
                 createdTimestamp,
                 assignedTo,
-                lastUpdatedTimestamp,
-                transactionDefinition
+                lastUpdatedTimestamp
         );
     }
 }
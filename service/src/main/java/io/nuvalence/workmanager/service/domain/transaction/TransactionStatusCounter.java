@@ -0,0 +1,25 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * Number of transactions in a count bucket, maintained as transactions are created and updated so that status counts
+ * can be summed from a handful of rows instead of grouping the transaction table.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "transaction_status_count")
+public class TransactionStatusCounter {
+    @EmbeddedId
+    private TransactionStatusCounterKey key;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+}
@@ -0,0 +1,65 @@
+package io.nuvalence.workmanager.service.domain.transaction;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * Bucket a transaction is counted in by the materialized status counts: its definition, status, priority, assignee and
+ * day of creation. Missing priorities and assignees are stored as an empty string so they can be part of the key.
+ * Days are taken in the JVM default time zone, the zone transaction timestamps are stored and date filters are parsed
+ * in.
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionStatusCounterKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "transaction_definition_key", length = 255, nullable = false)
+    private String transactionDefinitionKey;
+
+    @Column(name = "status", length = 255, nullable = false)
+    private String status;
+
+    @Column(name = "priority", length = 255, nullable = false)
+    private String priority;
+
+    @Column(name = "assigned_to", length = 64, nullable = false)
+    private String assignedTo;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDate createdDate;
+
+    /**
+     * Gets the bucket a transaction is currently counted in.
+     *
+     * @param transaction transaction to count
+     * @return count bucket of the transaction
+     */
+    public static TransactionStatusCounterKey of(final Transaction transaction) {
+        final ZoneId zone = ZoneId.systemDefault();
+        return new TransactionStatusCounterKey(
+                transaction.getTransactionDefinitionKey(),
+                transaction.getStatus(),
+                Objects.toString(transaction.getPriority(), ""),
+                Objects.toString(transaction.getAssignedTo(), ""),
+                transaction.getCreatedTimestamp() != null
+                        ? transaction.getCreatedTimestamp().atZoneSameInstant(zone).toLocalDate()
+                        : LocalDate.now(zone)
+        );
+    }
+}
@@ -0,0 +1,276 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.nuvalence.workmanager.service.domain.dynamicschema.DataConversionSupport;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import org.apache.commons.beanutils.DynaProperty;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads and writes the persisted JSON form of entities by streaming tokens directly to and from entity attributes,
+ * without building an intermediate generic map. Each attribute is converted to its schema type once, as it is read.
+ *
+ * <p>
+ * Reading produces the same entity as parsing the JSON into a map and applying it with
+ * {@link EntityMapper#applyMappedPropertiesToEntity(Entity, java.util.Map)}. JSON the map-based path handles in
+ * a non-obvious way (null values, values of the wrong shape, values that convert to null inside lists) is not read
+ * here; the reader reports it as unsupported so that the caller can fall back to the map-based path.
+ * </p>
+ */
+final class EntityJsonCodec {
+    private static final UnsupportedJsonException UNSUPPORTED = new UnsupportedJsonException();
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final SchemaResolver schemaResolver;
+
+    /**
+     * Constructs a new codec.
+     *
+     * @param objectMapper mapper whose configuration is used for parsing and for writing non-primitive values
+     * @param schemaResolver resolves the schemas of nested entities
+     */
+    EntityJsonCodec(final ObjectMapper objectMapper, final SchemaResolver schemaResolver) {
+        this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.schemaResolver = schemaResolver;
+    }
+
+    /**
+     * Reads an entity from its persisted JSON.
+     *
+     * @param json persisted JSON
+     * @param schema schema of the entity
+     * @param id ID of the entity
+     * @return the entity, or empty if the JSON must be read through the map-based path
+     * @throws JsonProcessingException if the JSON is malformed
+     * @throws MissingSchemaException if a nested entity references a schema that does not exist in the system
+     */
+    Optional<Entity> read(final String json, final Schema schema, final UUID id)
+            throws JsonProcessingException, MissingSchemaException {
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+
+            return Optional.of(readEntity(parser, schema, id));
+        } catch (UnsupportedJsonException e) {
+            return Optional.empty();
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+    }
+
+    /**
+     * Writes the persisted JSON of an entity. Null attributes are omitted.
+     *
+     * @param entity entity to write
+     * @return persisted JSON
+     * @throws JsonProcessingException if an attribute value cannot be serialized
+     */
+    String write(final Entity entity) throws JsonProcessingException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            writeEntity(generator, entity);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Writes some attributes of an entity as a JSON object, in the same form as {@link #write(Entity)}. Null
+     * attributes are written as JSON null so that the caller can tell them apart from attributes that were left out.
+     *
+     * @param entity entity to write
+     * @param names names of the attributes to write
+     * @return JSON object holding the attributes
+     * @throws JsonProcessingException if an attribute value cannot be serialized
+     */
+    String writeAttributes(final Entity entity, final Collection<String> names) throws JsonProcessingException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            generator.writeStartObject();
+            for (String name : names) {
+                generator.writeFieldName(name);
+                writeValue(generator, entity.get(name));
+            }
+            generator.writeEndObject();
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+
+        return writer.toString();
+    }
+
+    private Entity readEntity(final JsonParser parser, final Schema schema, final UUID id)
+            throws IOException, MissingSchemaException {
+        final Entity entity = new Entity(schema, id);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final DynaProperty property = schema.getDynaProperty(parser.getCurrentName());
+            final JsonToken token = parser.nextToken();
+            if (property == null) {
+                parser.skipChildren();
+            } else if (token == JsonToken.VALUE_NULL) {
+                throw UNSUPPORTED;
+            } else if (List.class.isAssignableFrom(property.getType())) {
+                entity.set(property.getName(), readList(parser, schema, property));
+            } else {
+                entity.set(property.getName(), readValue(parser, schema, property.getType(), property.getName()));
+            }
+        }
+
+        return entity;
+    }
+
+    private List<Object> readList(final JsonParser parser, final Schema schema, final DynaProperty property)
+            throws IOException, MissingSchemaException {
+        if (parser.currentToken() != JsonToken.START_ARRAY || property.getContentType() == null) {
+            throw UNSUPPORTED;
+        }
+
+        final List<Object> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final Object value = readValue(parser, schema, property.getContentType(), property.getName());
+            if (value == null) {
+                throw UNSUPPORTED;
+            }
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    private Object readValue(final JsonParser parser, final Schema schema, final Class<?> type, final String name)
+            throws IOException, MissingSchemaException {
+        if (Entity.class.isAssignableFrom(type)) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw UNSUPPORTED;
+            }
+
+            return readEntity(parser, schemaResolver.resolve(schema.getRelatedSchemas().get(name)), null);
+        }
+
+        final Object value = readGenericValue(parser);
+        if (value == null) {
+            throw UNSUPPORTED;
+        }
+
+        return DataConversionSupport.convert(value, type);
+    }
+
+    /**
+     * Reads the current value as the generic object an untyped Jackson deserializer would produce.
+     */
+    private Object readGenericValue(final JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case START_OBJECT:
+            case START_ARRAY:
+                return objectMapper.readValue(parser, Object.class);
+            default:
+                return null;
+        }
+    }
+
+    private void writeEntity(final JsonGenerator generator, final Entity entity) throws IOException {
+        generator.writeStartObject();
+        for (DynaProperty property : entity.getSchema().getDynaProperties()) {
+            final Object value = entity.get(property.getName());
+            if (value != null) {
+                generator.writeFieldName(property.getName());
+                writeValue(generator, value);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private void writeValue(final JsonGenerator generator, final Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Entity) {
+            writeEntity(generator, (Entity) value);
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object element : (List<?>) value) {
+                writeValue(generator, element);
+            }
+            generator.writeEndArray();
+        } else {
+            valueWriter.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Resolves schemas by name.
+     */
+    @FunctionalInterface
+    interface SchemaResolver {
+        /**
+         * Gets the schema with the given name.
+         *
+         * @param name schema name
+         * @return schema
+         * @throws MissingSchemaException if no schema with the name exists in the system
+         */
+        Schema resolve(String name) throws MissingSchemaException;
+    }
+
+    /**
+     * Signals JSON that must be read through the map-based path. Thrown without a stack trace, as it unwinds to
+     * {@link #read(String, Schema, UUID)} and never escapes.
+     */
+    private static final class UnsupportedJsonException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedJsonException() {
+            super(null, null, false, false);
+        }
+    }
+}
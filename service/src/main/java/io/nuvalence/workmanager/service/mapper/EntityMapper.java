@@ -22,10 +22,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -46,6 +50,7 @@ public abstract class EntityMapper {
     public static final EntityMapper INSTANCE = Mappers.getMapper(EntityMapper.class);
 
     private final ObjectMapper objectMapper;
+    private final EntityJsonCodec codec;
     private final Set<String> attributesToMesh = Set.of("documentList"); // O(1) contains call
 
     @Autowired
@@ -59,6 +64,7 @@ public abstract class EntityMapper {
         objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        codec = new EntityJsonCodec(objectMapper, this::getSchemaByName);
     }
 
     /**
@@ -101,15 +107,28 @@ public abstract class EntityMapper {
      * @throws JsonProcessingException if an exception occurs writing entity data to JSON.
      */
     public EntityRow entityToEntityRow(final Entity entity) throws JsonProcessingException {
-        final Map<String, Object> data = convertAttributesToGenericMap(entity);
-
         return EntityRow.builder()
                 .id(entity.getId())
                 .schema(entity.getSchema().getName())
-                .entityJson(objectMapper.writeValueAsString(data))
+                .entityJson(codec.write(entity))
+                .version(Objects.requireNonNullElse(entity.getVersion(), 0L))
                 .build();
     }
 
+    /**
+     * Writes some attributes of an entity in their persisted JSON form, as a JSON object that can be merged into the
+     * persisted JSON of the entity. Null attributes are written as JSON null.
+     *
+     * @param entity Logic model for entity
+     * @param names names of the attributes to write
+     * @return JSON object holding the attributes
+     * @throws JsonProcessingException if an exception occurs writing entity data to JSON.
+     */
+    public String entityAttributesToJson(final Entity entity, final Collection<String> names)
+            throws JsonProcessingException {
+        return codec.writeAttributes(entity, names);
+    }
+
     /**
      * Maps {@link io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow} to
      * {@link io.nuvalence.workmanager.service.domain.dynamicschema.Entity}.
@@ -122,16 +141,60 @@ public abstract class EntityMapper {
     public Entity entityRowToEntity(final EntityRow row) throws JsonProcessingException, MissingSchemaException {
         final Schema schema = schemaService.getSchemaByName(row.getSchema())
                 .orElseThrow(() -> new MissingSchemaException(row.getSchema()));
-        final Entity entity = new Entity(schema, row.getId());
-        final Map<String, Object> data = objectMapper.readValue(
-                row.getEntityJson(),
-                new TypeReference<Map<String, Object>>() {}
-        );
-        applyMappedPropertiesToEntity(entity, data);
+
+        return entityRowToEntity(row, schema);
+    }
+
+    private Entity entityRowToEntity(final EntityRow row, final Schema schema)
+            throws JsonProcessingException, MissingSchemaException {
+        final Optional<Entity> streamed = codec.read(row.getEntityJson(), schema, row.getId());
+        final Entity entity;
+        if (streamed.isPresent()) {
+            entity = streamed.get();
+        } else {
+            entity = new Entity(schema, row.getId());
+            final Map<String, Object> data = objectMapper.readValue(
+                    row.getEntityJson(),
+                    new TypeReference<Map<String, Object>>() {}
+            );
+            applyMappedPropertiesToEntity(entity, data);
+        }
+        entity.setVersion(row.getVersion());
+        entity.markClean();
 
         return entity;
     }
 
+    /**
+     * Maps a collection of {@link io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow} to
+     * {@link io.nuvalence.workmanager.service.domain.dynamicschema.Entity}, resolving each distinct schema only once.
+     *
+     * @param rows Persistence models for entities
+     * @return Logic models for entities, in the same order as the rows
+     * @throws MissingSchemaException If any row references a schema that does not exist in the system.
+     * @throws JsonProcessingException if an exception occurs reading entity data from JSON.
+     */
+    public List<Entity> entityRowsToEntities(final Collection<EntityRow> rows)
+            throws JsonProcessingException, MissingSchemaException {
+        final Map<String, Schema> schemas = new HashMap<>();
+        final List<Entity> entities = new ArrayList<>(rows.size());
+        for (EntityRow row : rows) {
+            Schema schema = schemas.get(row.getSchema());
+            if (schema == null) {
+                schema = schemaService.getSchemaByName(row.getSchema())
+                        .orElseThrow(() -> new MissingSchemaException(row.getSchema()));
+                schemas.put(row.getSchema(), schema);
+            }
+            entities.add(entityRowToEntity(row, schema));
+        }
+
+        return entities;
+    }
+
+    private Schema getSchemaByName(final String name) throws MissingSchemaException {
+        return schemaService.getSchemaByName(name).orElseThrow(() -> new MissingSchemaException(name));
+    }
+
     /**
      * Produces a generic map, suitable for JSON serialization.
      *
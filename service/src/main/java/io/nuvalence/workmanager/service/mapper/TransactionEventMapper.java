@@ -0,0 +1,22 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import io.nuvalence.workmanager.service.generated.models.TransactionEventModel;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Maps transaction events.
+ *
+ * <ul>
+ *     <li>API Model ({@link io.nuvalence.workmanager.service.generated.models.TransactionEventModel})</li>
+ *     <li>Logic Model ({@link io.nuvalence.workmanager.service.models.TransactionEvent})</li>
+ * </ul>
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TransactionEventMapper {
+    TransactionEventMapper INSTANCE = Mappers.getMapper(TransactionEventMapper.class);
+
+    TransactionEventModel transactionEventToTransactionEventModel(TransactionEvent value);
+}
@@ -0,0 +1,15 @@
+package io.nuvalence.workmanager.service.models;
+
+/**
+ * Failure when a pagination cursor cannot be decoded or does not match the requested sort order.
+ */
+public class InvalidCursorException extends Exception {
+    /**
+     * Constructs a new InvalidCursorException.
+     *
+     * @param message description of why the cursor is invalid
+     */
+    public InvalidCursorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,47 @@
+package io.nuvalence.workmanager.service.models;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Outcome of creating one transaction of a batch: either the ID of the created transaction or why it could not be
+ * created. Only the ID is kept, so the results of a large batch do not hold on to every transaction and its entity.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionCreationResult {
+    private final UUID id;
+    private final String error;
+
+    /**
+     * Result of a transaction that was created.
+     *
+     * @param id ID of the created transaction
+     * @return successful result
+     */
+    public static TransactionCreationResult created(final UUID id) {
+        return new TransactionCreationResult(id, null);
+    }
+
+    /**
+     * Result of a transaction that could not be created.
+     *
+     * @param error why the transaction could not be created
+     * @return failed result
+     */
+    public static TransactionCreationResult failed(final String error) {
+        return new TransactionCreationResult(null, error);
+    }
+
+    /**
+     * Whether the transaction was created.
+     *
+     * @return true if the transaction was created
+     */
+    public boolean isCreated() {
+        return id != null;
+    }
+}
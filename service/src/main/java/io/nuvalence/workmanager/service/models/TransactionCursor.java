@@ -0,0 +1,121 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated list of transactions: the sort column value and ID of the last transaction returned.
+ * Clients receive it as an opaque, URL-safe token and pass it back to fetch the following page.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TransactionCursor {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Transaction attribute the list is sorted by.
+     */
+    private final String sortCol;
+
+    private final boolean descending;
+
+    /**
+     * Value of the sort attribute on the last transaction returned, in string form, or null if it had no value.
+     */
+    private final String value;
+
+    private final UUID id;
+
+    /**
+     * Creates a cursor positioned on a transaction.
+     *
+     * @param transaction last transaction of a page
+     * @param sortCol transaction attribute the list is sorted by
+     * @param descending whether the list is sorted in descending order
+     * @return cursor positioned after the transaction
+     */
+    public static TransactionCursor after(final Transaction transaction, final String sortCol,
+                                          final boolean descending) {
+        return new TransactionCursor(sortCol, descending, Objects.toString(getSortValue(transaction, sortCol), null),
+                transaction.getId());
+    }
+
+    /**
+     * Decodes a cursor token.
+     *
+     * @param token token previously produced by {@link #encode()}
+     * @return decoded cursor
+     * @throws InvalidCursorException if the token is not a valid cursor
+     */
+    public static TransactionCursor decode(final String token) throws InvalidCursorException {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 4);
+            if (parts.length < 3) {
+                throw new InvalidCursorException("Malformed cursor.");
+            }
+
+            // a cursor on a transaction without a sort value has no value part
+            final TransactionCursor cursor = new TransactionCursor(parts[0], Boolean.parseBoolean(parts[1]),
+                    parts.length == 4 ? parts[3] : null, UUID.fromString(parts[2]));
+            if (cursor.isTimestampSort()) {
+                if (cursor.getValue() == null) {
+                    throw new InvalidCursorException("Malformed cursor.");
+                }
+                OffsetDateTime.parse(cursor.getValue());
+            }
+
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor.");
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return cursor token
+     */
+    public String encode() {
+        final String raw = value == null
+                ? String.join(SEPARATOR, sortCol, Boolean.toString(descending), id.toString())
+                : String.join(SEPARATOR, sortCol, Boolean.toString(descending), id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether the sort attribute is a timestamp, in which case the value is an ISO-8601 date-time.
+     *
+     * @return true if the list is sorted by a timestamp attribute
+     */
+    public boolean isTimestampSort() {
+        return "createdTimestamp".equals(sortCol) || "lastUpdatedTimestamp".equals(sortCol);
+    }
+
+    private static Object getSortValue(final Transaction transaction, final String sortCol) {
+        switch (sortCol) {
+            case "priority":
+                return transaction.getPriority();
+            case "district":
+                return transaction.getDistrict();
+            case "status":
+                return transaction.getStatus();
+            case "createdTimestamp":
+                return transaction.getCreatedTimestamp();
+            case "lastUpdatedTimestamp":
+                return transaction.getLastUpdatedTimestamp();
+            default:
+                return transaction.getId();
+        }
+    }
+}
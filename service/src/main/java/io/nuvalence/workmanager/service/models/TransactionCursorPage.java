@@ -0,0 +1,26 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A page of transactions fetched with keyset pagination.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursorPage {
+    private final List<Transaction> transactions;
+
+    /**
+     * Cursor to fetch the following page with, or null if this is the last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * Total number of matching transactions, or null if it was not requested.
+     */
+    private final Long totalCount;
+}
@@ -0,0 +1,95 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Change to a transaction that subscribers to the transaction event stream are notified of. Events are published
+ * within the database transaction making the change and delivered once it commits. The category of the transaction's
+ * definition is passed in when the event is built, rather than read from the transaction's lazily loaded definition.
+ */
+@Getter
+@ToString
+@Builder(access = AccessLevel.PRIVATE)
+public class TransactionEvent {
+    private final Type type;
+    private final UUID transactionId;
+    private final String transactionDefinitionKey;
+    private final String category;
+    private final String status;
+    private final String previousStatus;
+    private final String assignedTo;
+    private final String previousAssignedTo;
+    private final OffsetDateTime timestamp;
+
+    /**
+     * Creates the event of a transaction being created.
+     *
+     * @param transaction new transaction
+     * @param definition definition of the transaction
+     * @return event
+     */
+    public static TransactionEvent created(final Transaction transaction, final TransactionDefinition definition) {
+        return from(transaction, definition.getCategory())
+                .type(Type.CREATED)
+                .build();
+    }
+
+    /**
+     * Creates the event of the status of a transaction changing.
+     *
+     * @param transaction transaction, with its new status
+     * @param category category of the transaction's definition
+     * @param previousStatus status before the change
+     * @return event
+     */
+    public static TransactionEvent statusChanged(final Transaction transaction, final String category,
+                                                 final String previousStatus) {
+        return from(transaction, category)
+                .type(Type.STATUS_CHANGED)
+                .previousStatus(previousStatus)
+                .build();
+    }
+
+    /**
+     * Creates the event of a transaction being assigned to another user, or unassigned.
+     *
+     * @param transaction transaction, with its new assignee
+     * @param category category of the transaction's definition
+     * @param previousAssignedTo assignee before the change
+     * @return event
+     */
+    public static TransactionEvent assigned(final Transaction transaction, final String category,
+                                            final String previousAssignedTo) {
+        return from(transaction, category)
+                .type(Type.ASSIGNED)
+                .previousAssignedTo(previousAssignedTo)
+                .build();
+    }
+
+    private static TransactionEventBuilder from(final Transaction transaction, final String category) {
+        return builder()
+                .transactionId(transaction.getId())
+                .transactionDefinitionKey(transaction.getTransactionDefinitionKey())
+                .category(category)
+                .status(transaction.getStatus())
+                .assignedTo(transaction.getAssignedTo())
+                .timestamp(OffsetDateTime.now());
+    }
+
+    /**
+     * Kinds of transaction changes.
+     */
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        ASSIGNED
+    }
+}
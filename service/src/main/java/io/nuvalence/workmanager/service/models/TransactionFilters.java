@@ -13,6 +13,11 @@ import java.util.List;
 @Getter
 @Setter
 public class TransactionFilters extends BaseFilters {
+    /**
+     * Number of transactions per page when no page size is requested.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 25;
+
     private String transactionDefinitionKey;
     private String category;
     private OffsetDateTime startDate;
@@ -21,6 +26,8 @@ public class TransactionFilters extends BaseFilters {
     private List<String> status;
     private List<String> assignedTo;
     private Boolean assignedToMe;
+    private String cursor;
+    private Boolean includeTotal;
 
     /**
      * Builder for TransactionFilters.
@@ -37,13 +44,15 @@ public class TransactionFilters extends BaseFilters {
      * @param sortDir The direction to filter transactions by
      * @param pageNumber The number of the pages to get transactions
      * @param pageSize The number of transactions per page
+     * @param cursor The keyset pagination cursor to continue after
+     * @param includeTotal Whether to count the total number of matching transactions
      */
     @Builder
     public TransactionFilters(String transactionDefinitionKey, String category,
                               OffsetDateTime startDate, OffsetDateTime endDate,
                               List<String> priority, List<String> status, List<String> assignedTo, Boolean assignedToMe,
                               String sortCol, String sortDir,
-                              Integer pageNumber, Integer pageSize) {
+                              Integer pageNumber, Integer pageSize, String cursor, Boolean includeTotal) {
         super(sortCol, sortDir, pageNumber, pageSize);
         this.transactionDefinitionKey = transactionDefinitionKey;
         this.category = category;
@@ -53,5 +62,16 @@ public class TransactionFilters extends BaseFilters {
         this.status = status;
         this.assignedTo = assignedTo;
         this.assignedToMe = assignedToMe;
+        this.cursor = cursor;
+        this.includeTotal = includeTotal;
+    }
+
+    /**
+     * Gets the number of transactions per page, falling back to the default page size.
+     *
+     * @return The number of transactions per page
+     */
+    public int getPageSizeOrDefault() {
+        return getPageSize() != null ? getPageSize() : DEFAULT_PAGE_SIZE;
     }
 }
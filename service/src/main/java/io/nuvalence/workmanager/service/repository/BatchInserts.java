@@ -0,0 +1,37 @@
+package io.nuvalence.workmanager.service.repository;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+
+/**
+ * Inserts new JPA entities with batched statements, shared by the repositories that create rows in bulk.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BatchInserts {
+
+    /**
+     * Persists new entities and flushes them, sending their INSERT statements to the database in JDBC batches rather
+     * than one round trip per entity. The session's batch size is raised to cover all of them for the duration of the
+     * flush, and the entities are detached afterwards so that inserting many batches does not grow the persistence
+     * context.
+     *
+     * @param entityManager entity manager of the current persistence context
+     * @param entities new entities
+     */
+    static void insertAll(final EntityManager entityManager, final List<?> entities) {
+        final Session session = entityManager.unwrap(Session.class);
+        final Integer batchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.max(entities.size(), 1));
+        try {
+            entities.forEach(entityManager::persist);
+            entityManager.flush();
+            entities.forEach(entityManager::detach);
+        } finally {
+            session.setJdbcBatchSize(batchSize);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.nuvalence.workmanager.service.repository;
+
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Identifies the database behind a repository, for the repositories that issue PostgreSQL-specific SQL where it is
+ * available. The JDBC driver is asked once; the answer is kept for the lifetime of the repository.
+ */
+final class DatabaseProduct {
+    private volatile Boolean postgres;
+
+    /**
+     * Tells whether the database is PostgreSQL.
+     *
+     * @param entityManager entity manager of the current persistence context, used the first time to ask the driver
+     * @return true if the database is PostgreSQL
+     */
+    boolean isPostgres(final EntityManager entityManager) {
+        if (postgres == null) {
+            postgres = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+
+        return postgres;
+    }
+}
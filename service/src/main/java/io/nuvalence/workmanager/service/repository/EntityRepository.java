@@ -1,8 +1,8 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -11,7 +11,7 @@ import java.util.UUID;
 /**
  * Repository for Entities.
  */
-public interface EntityRepository extends CrudRepository<EntityRow, UUID> {
+public interface EntityRepository extends JpaRepository<EntityRow, UUID>, EntityRepositoryCustom {
 
     @Query("SELECT er FROM EntityRow er WHERE er.schema = :scehma")
     List<EntityRow> getEntitiesForSchema(@Param("scehma") String schema);
@@ -0,0 +1,40 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * To be used for implementing entity-specific repository methods.
+ */
+public interface EntityRepositoryCustom {
+    /**
+     * Whether the database can merge attributes into persisted entity JSON with
+     * {@link #mergeAttributes(UUID, long, String)}. Only PostgreSQL can; elsewhere entities must be written in full.
+     *
+     * @return true if attributes can be merged
+     */
+    boolean supportsAttributeMerge();
+
+    /**
+     * Merges attributes into the persisted JSON of an entity with a single UPDATE statement, leaving the other
+     * attributes untouched, and increments the entity version. Attributes with a JSON null value are removed. The
+     * update only applies if the entity is still at the expected version.
+     *
+     * @param id ID of the entity
+     * @param version version the entity is expected to be at
+     * @param attributesJson JSON object holding the attributes to merge
+     * @return number of rows changed; 0 if the entity does not exist or is at another version
+     */
+    int mergeAttributes(UUID id, long version, String attributesJson);
+
+    /**
+     * Inserts new entities, sending the INSERT statements to the database in JDBC batches rather than one round trip
+     * per entity, and flushes them. IDs are assigned to the rows passed in. They are detached afterwards, so inserting
+     * many batches does not grow the persistence context.
+     *
+     * @param rows new entity rows
+     */
+    void insertAll(List<EntityRow> rows);
+}
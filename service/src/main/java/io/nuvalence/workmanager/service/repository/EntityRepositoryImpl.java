@@ -0,0 +1,60 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * Houses concrete Entity repository method implementations.
+ */
+@Repository
+public class EntityRepositoryImpl implements EntityRepositoryCustom {
+    private static final String POSTGRES_MERGE_ATTRIBUTES = "UPDATE dynamic_entity "
+            + "SET entity_json = (entity_json || CAST(:attributes AS jsonb)) - ARRAY("
+            + "SELECT a.key FROM jsonb_each(CAST(:attributes AS jsonb)) a WHERE a.value = CAST('null' AS jsonb)), "
+            + "version = version + 1 "
+            + "WHERE id = :id AND version = :version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabaseProduct databaseProduct = new DatabaseProduct();
+
+    @Override
+    public boolean supportsAttributeMerge() {
+        return databaseProduct.isPostgres(entityManager);
+    }
+
+    @Override
+    public int mergeAttributes(final UUID id, final long version, final String attributesJson) {
+        final int updated = entityManager.createNativeQuery(POSTGRES_MERGE_ATTRIBUTES)
+                .setParameter("attributes", attributesJson)
+                .setParameter("id", id.toString())
+                .setParameter("version", version)
+                .executeUpdate();
+
+        // a copy of the row loaded earlier in this persistence context no longer matches the database; detach it so a
+        // later full write of the entity is checked against the new version instead of the stale copy
+        final SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        for (Map.Entry<Object, EntityEntry> entry
+                : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof EntityRow && id.equals(((EntityRow) entry.getKey()).getId())) {
+                entityManager.detach(entry.getKey());
+            }
+        }
+
+        return updated;
+    }
+
+    @Override
+    public void insertAll(final List<EntityRow> rows) {
+        BatchInserts.insertAll(entityManager, rows);
+    }
+}
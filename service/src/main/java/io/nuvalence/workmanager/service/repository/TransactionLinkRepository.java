@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,6 +13,26 @@ import java.util.UUID;
  * Repository for Transaction Links.
  */
 public interface TransactionLinkRepository extends CrudRepository<TransactionLink, UUID> {
-    @Query("SELECT tl FROM TransactionLink tl WHERE tl.fromTransactionId = :id or tl.toTransactionId = :id")
-    List<TransactionLink> getTransactionLinksById(@Param("id") UUID id);
+    /**
+     * Finds the links from or to a transaction. Each direction is looked up on its own index, rather than OR-ed in
+     * one query that a planner without index unions would scan for.
+     *
+     * @param id transaction to find links for
+     * @return links from the transaction, followed by links to it
+     */
+    default List<TransactionLink> getTransactionLinksById(UUID id) {
+        final List<TransactionLink> links = new ArrayList<>(getTransactionLinksFrom(id));
+        getTransactionLinksTo(id).stream()
+                // a link from the transaction to itself was already found
+                .filter(link -> !id.equals(link.getFromTransactionId()))
+                .forEach(links::add);
+
+        return links;
+    }
+
+    @Query("SELECT tl FROM TransactionLink tl WHERE tl.fromTransactionId = :id")
+    List<TransactionLink> getTransactionLinksFrom(@Param("id") UUID id);
+
+    @Query("SELECT tl FROM TransactionLink tl WHERE tl.toTransactionId = :id")
+    List<TransactionLink> getTransactionLinksTo(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -6,9 +6,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Repository for Transactions.
@@ -24,9 +28,28 @@ public interface TransactionRepository extends CrudRepository<Transaction, UUID>
             + "AND td.category LIKE :category%")
     List<Transaction> searchByCategory(@Param("category") String category);
 
-    @Query("SELECT t FROM Transaction t WHERE (t.createdBy = :userId OR t.subjectUserId = :userId)"
-            + "ORDER BY t.createdTimestamp desc")
-    List<Transaction> searchByTransactionByUser(@Param("userId") String userId);
+    /**
+     * Finds the transactions a user created or is the subject of, newest first. Each of the two conditions is looked
+     * up on its own index, rather than OR-ed in one query that a planner without index unions would scan for.
+     *
+     * @param userId user to find transactions for
+     * @return transactions created by or about the user
+     */
+    default List<Transaction> searchByTransactionByUser(String userId) {
+        final Map<UUID, Transaction> transactions = new LinkedHashMap<>();
+        searchByCreatedBy(userId).forEach(transaction -> transactions.put(transaction.getId(), transaction));
+        searchBySubjectUserId(userId).forEach(transaction -> transactions.put(transaction.getId(), transaction));
+
+        return transactions.values().stream()
+                .sorted(Comparator.comparing(Transaction::getCreatedTimestamp).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Query("SELECT t FROM Transaction t WHERE t.createdBy = :userId")
+    List<Transaction> searchByCreatedBy(@Param("userId") String userId);
+
+    @Query("SELECT t FROM Transaction t WHERE t.subjectUserId = :userId")
+    List<Transaction> searchBySubjectUserId(@Param("userId") String userId);
 
     @Query("SELECT t FROM Transaction t WHERE t.processInstanceId = :processInstanceId")
     Optional<Transaction> findByProcessInstanceId(@Param("processInstanceId") String processInstanceId);
@@ -34,4 +57,14 @@ public interface TransactionRepository extends CrudRepository<Transaction, UUID>
     @Query("SELECT t FROM Transaction t WHERE t.assignedTo = :userId")
     List<Transaction> searchByTransactionByAssignee(@Param("userId") String userId);
 
+    /**
+     * Saves a transaction and flushes it immediately, so that a version conflict is raised by this call rather than
+     * when the surrounding transaction commits.
+     *
+     * @param transaction transaction to save
+     * @param <S> transaction type
+     * @return saved transaction
+     */
+    <S extends Transaction> S saveAndFlush(S transaction);
+
 }
@@ -4,7 +4,9 @@ import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * To be used for implementing transaction-specific repository methods.
@@ -12,4 +14,62 @@ import java.util.List;
 public interface TransactionRepositoryCustom {
     List<TransactionCountByStatusModel> getTransactionCountsByStatus(
             Specification<Transaction> transactionSpecification);
+
+    /**
+     * Gets the first transactions matching a specification in keyset order: by the sort attribute, then by ID.
+     * Unlike a paged query, no count query is issued.
+     *
+     * @param transactionSpecification criteria to filter transactions by
+     * @param sortCol transaction attribute to sort by
+     * @param descending whether to sort in descending order
+     * @param limit maximum number of transactions to return
+     * @return matching transactions in keyset order
+     */
+    List<Transaction> findFirstInKeysetOrder(Specification<Transaction> transactionSpecification, String sortCol,
+                                             boolean descending, int limit);
+
+    /**
+     * Streams every transaction matching a specification in keyset order, reading rows from a server-side cursor
+     * rather than loading the whole result. The transactions are read-only and stay in the persistence context until
+     * {@link #detachAll()} is called, so callers consuming a large stream should call it after each chunk. The stream
+     * must be closed, and consumed within the surrounding database transaction.
+     *
+     * @param transactionSpecification criteria to filter transactions by
+     * @param sortCol transaction attribute to sort by
+     * @param descending whether to sort in descending order
+     * @param fetchSize number of rows to fetch from the database per round trip
+     * @return matching transactions in keyset order
+     */
+    Stream<Transaction> streamInKeysetOrder(Specification<Transaction> transactionSpecification, String sortCol,
+                                            boolean descending, int fetchSize);
+
+    /**
+     * Detaches every entity loaded in the current persistence context, releasing them for garbage collection.
+     * Pending changes to them are not flushed.
+     */
+    void detachAll();
+
+    /**
+     * Sets the district of the transaction running in a process instance with a single UPDATE statement, without
+     * loading the transaction or its entity. Rows already holding the district are left untouched; changed rows have
+     * their version incremented, so concurrent updates of the transaction detect the change. Pending changes are
+     * flushed first, and transactions already loaded in the current persistence context are refreshed so a later
+     * flush neither reverts the district nor fails on the incremented version.
+     *
+     * @param processInstanceId ID of the process instance
+     * @param district new district, or null to clear it
+     * @param lastUpdatedTimestamp time of the update, recorded on changed rows
+     * @return number of rows changed
+     */
+    int updateDistrictByProcessInstanceId(String processInstanceId, String district,
+                                          OffsetDateTime lastUpdatedTimestamp);
+
+    /**
+     * Inserts new transactions, sending the INSERT statements to the database in JDBC batches rather than one round
+     * trip per transaction, and flushes them. IDs are assigned to the transactions passed in. They are detached
+     * afterwards, so inserting many batches does not grow the persistence context.
+     *
+     * @param transactions new transactions
+     */
+    void insertAll(List<Transaction> transactions);
 }
@@ -1,17 +1,31 @@
 package io.nuvalence.workmanager.service.repository;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.models.TransactionStatusCount;
+import io.nuvalence.workmanager.service.specifications.TransactionSpecification;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
 
 /**
@@ -39,4 +53,105 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
             return count;
         }).collect(Collectors.toList());
     }
+
+    @Override
+    public List<Transaction> findFirstInKeysetOrder(Specification<Transaction> specifications, String sortCol,
+                                                    boolean descending, int limit) {
+        return createKeysetOrderQuery(specifications, sortCol, descending).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<Transaction> streamInKeysetOrder(Specification<Transaction> specifications, String sortCol,
+                                                   boolean descending, int fetchSize) {
+        return createKeysetOrderQuery(specifications, sortCol, descending)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public void detachAll() {
+        entityManager.clear();
+    }
+
+    @Override
+    public int updateDistrictByProcessInstanceId(final String processInstanceId, final String district,
+                                                 final OffsetDateTime lastUpdatedTimestamp) {
+        // bulk updates bypass the persistence context: pending changes to a transaction loaded earlier in the same
+        // request (e.g. the one whose task completion started this process step) are written first, so that they are
+        // checked against the version this update is about to increment
+        entityManager.flush();
+
+        final int updated;
+        if (district == null) {
+            updated = entityManager.createQuery("UPDATE Transaction t SET t.district = NULL, "
+                            + "t.lastUpdatedTimestamp = :lastUpdatedTimestamp, t.version = t.version + 1 "
+                            + "WHERE t.processInstanceId = :processInstanceId AND t.district IS NOT NULL")
+                    .setParameter("processInstanceId", processInstanceId)
+                    .setParameter("lastUpdatedTimestamp", lastUpdatedTimestamp)
+                    .executeUpdate();
+        } else {
+            updated = entityManager.createQuery("UPDATE Transaction t SET t.district = :district, "
+                            + "t.lastUpdatedTimestamp = :lastUpdatedTimestamp, t.version = t.version + 1 "
+                            + "WHERE t.processInstanceId = :processInstanceId "
+                            + "AND (t.district IS NULL OR t.district <> :district)")
+                    .setParameter("processInstanceId", processInstanceId)
+                    .setParameter("district", district)
+                    .setParameter("lastUpdatedTimestamp", lastUpdatedTimestamp)
+                    .executeUpdate();
+        }
+
+        if (updated > 0) {
+            refreshManagedTransactions(processInstanceId);
+        }
+
+        return updated;
+    }
+
+    /**
+     * Reloads the transactions of a process instance already loaded in the persistence context, so that they hold the
+     * district and version written by a bulk update rather than writing stale values back. The status counter bucket
+     * they were counted in is kept, as the counts have not been adjusted for changes made before the refresh.
+     */
+    private void refreshManagedTransactions(final String processInstanceId) {
+        final SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        final List<Transaction> managed = new ArrayList<>();
+        for (Map.Entry<Object, EntityEntry> entry
+                : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof Transaction
+                    && Objects.equals(((Transaction) entry.getKey()).getProcessInstanceId(), processInstanceId)) {
+                managed.add((Transaction) entry.getKey());
+            }
+        }
+
+        for (Transaction transaction : managed) {
+            final TransactionStatusCounterKey countedAs = transaction.getCountedAs();
+            entityManager.refresh(transaction);
+            transaction.setCountedAs(countedAs);
+        }
+    }
+
+    private TypedQuery<Transaction> createKeysetOrderQuery(Specification<Transaction> specifications, String sortCol,
+                                                           boolean descending) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        query.select(root);
+        query.where(specifications.toPredicate(root, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        for (Expression<?> sortExpression : TransactionSpecification.sortExpressions(root, cb, sortCol)) {
+            orders.add(descending ? cb.desc(sortExpression) : cb.asc(sortExpression));
+        }
+        Path<?> id = root.get("id");
+        orders.add(descending ? cb.desc(id) : cb.asc(id));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+
+    @Override
+    public void insertAll(final List<Transaction> transactions) {
+        BatchInserts.insertAll(entityManager, transactions);
+    }
 }
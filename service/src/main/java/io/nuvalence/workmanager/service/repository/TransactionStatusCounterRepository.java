@@ -0,0 +1,13 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounter;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Repository for the materialized transaction status counts.
+ */
+public interface TransactionStatusCounterRepository
+        extends CrudRepository<TransactionStatusCounter, TransactionStatusCounterKey>,
+        TransactionStatusCounterRepositoryCustom {
+}
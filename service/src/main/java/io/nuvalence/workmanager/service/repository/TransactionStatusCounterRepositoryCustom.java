@@ -0,0 +1,44 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounter;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * To be used for implementing status counter-specific repository methods.
+ */
+public interface TransactionStatusCounterRepositoryCustom {
+    /**
+     * Adds a transaction to a count bucket, creating the bucket if it does not exist yet.
+     *
+     * @param key count bucket
+     */
+    void increment(TransactionStatusCounterKey key);
+
+    /**
+     * Adds several transactions to a count bucket at once, creating the bucket if it does not exist yet.
+     *
+     * @param key count bucket
+     * @param count number of transactions to add
+     */
+    void increment(TransactionStatusCounterKey key, long count);
+
+    /**
+     * Removes a transaction from a count bucket. Counts never go below zero.
+     *
+     * @param key count bucket
+     */
+    void decrement(TransactionStatusCounterKey key);
+
+    /**
+     * Sums the count buckets matching a specification by status. Statuses without transactions are omitted.
+     *
+     * @param counterSpecification criteria to filter count buckets by
+     * @return number of transactions per status
+     */
+    List<TransactionCountByStatusModel> getTransactionCountsByStatus(
+            Specification<TransactionStatusCounter> counterSpecification);
+}
@@ -0,0 +1,100 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounter;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.TransactionStatusCount;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+/**
+ * Houses concrete status counter repository method implementations.
+ */
+@Repository
+public class TransactionStatusCounterRepositoryImpl implements TransactionStatusCounterRepositoryCustom {
+    private static final String POSTGRES_INCREMENT = "INSERT INTO transaction_status_count "
+            + "(transaction_definition_key, status, priority, assigned_to, created_date, transaction_count) "
+            + "VALUES (:definitionKey, :status, :priority, :assignedTo, :createdDate, :count) "
+            + "ON CONFLICT (transaction_definition_key, status, priority, assigned_to, created_date) "
+            + "DO UPDATE SET transaction_count = transaction_status_count.transaction_count + :count";
+
+    private static final String MERGE_INCREMENT = "MERGE INTO transaction_status_count c "
+            + "USING (SELECT CAST(:definitionKey AS VARCHAR(255)) AS transaction_definition_key, "
+            + "CAST(:status AS VARCHAR(255)) AS status, CAST(:priority AS VARCHAR(255)) AS priority, "
+            + "CAST(:assignedTo AS VARCHAR(64)) AS assigned_to, CAST(:createdDate AS DATE) AS created_date, "
+            + "CAST(:count AS BIGINT) AS amount) s "
+            + "ON c.transaction_definition_key = s.transaction_definition_key AND c.status = s.status "
+            + "AND c.priority = s.priority AND c.assigned_to = s.assigned_to AND c.created_date = s.created_date "
+            + "WHEN MATCHED THEN UPDATE SET transaction_count = c.transaction_count + s.amount "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(transaction_definition_key, status, priority, assigned_to, created_date, transaction_count) "
+            + "VALUES (s.transaction_definition_key, s.status, s.priority, s.assigned_to, s.created_date, s.amount)";
+
+    private static final String DECREMENT = "UPDATE transaction_status_count "
+            + "SET transaction_count = transaction_count - 1 "
+            + "WHERE transaction_definition_key = :definitionKey AND status = :status AND priority = :priority "
+            + "AND assigned_to = :assignedTo AND created_date = :createdDate AND transaction_count > 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabaseProduct databaseProduct = new DatabaseProduct();
+
+    @Override
+    public void increment(TransactionStatusCounterKey key) {
+        increment(key, 1);
+    }
+
+    @Override
+    public void increment(TransactionStatusCounterKey key, long count) {
+        final String sql = databaseProduct.isPostgres(entityManager) ? POSTGRES_INCREMENT : MERGE_INCREMENT;
+        bind(entityManager.createNativeQuery(sql), key)
+                .setParameter("count", count)
+                .executeUpdate();
+    }
+
+    @Override
+    public void decrement(TransactionStatusCounterKey key) {
+        bind(entityManager.createNativeQuery(DECREMENT), key).executeUpdate();
+    }
+
+    @Override
+    public List<TransactionCountByStatusModel> getTransactionCountsByStatus(
+            Specification<TransactionStatusCounter> specifications) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionStatusCount> query = cb.createQuery(TransactionStatusCount.class);
+        Root<TransactionStatusCounter> root = query.from(TransactionStatusCounter.class);
+        Path<String> status = root.get("key").get("status");
+        Expression<Long> total = cb.sum(root.get("transactionCount"));
+        query.select(cb.construct(TransactionStatusCount.class, status, total));
+        query.where(specifications.toPredicate(root, query, cb));
+        query.groupBy(status);
+        query.having(cb.greaterThan(total, 0L));
+        return entityManager.createQuery(query).getResultList().stream().map(c -> {
+            TransactionCountByStatusModel count = new TransactionCountByStatusModel();
+            count.setCount(c.getCount().intValue());
+            count.setStatus(c.getStatus());
+            return count;
+        }).collect(Collectors.toList());
+    }
+
+    private static Query bind(Query query, TransactionStatusCounterKey key) {
+        return query
+                .setParameter("definitionKey", key.getTransactionDefinitionKey())
+                .setParameter("status", key.getStatus())
+                .setParameter("priority", key.getPriority())
+                .setParameter("assignedTo", key.getAssignedTo())
+                .setParameter("createdDate", key.getCreatedDate());
+    }
+}
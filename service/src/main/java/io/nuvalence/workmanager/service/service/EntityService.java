@@ -7,11 +7,18 @@ import io.nuvalence.workmanager.service.mapper.EntityMapper;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.repository.EntityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 
@@ -36,6 +43,24 @@ public class EntityService {
         return repository.findById(id).map(this::mapRowToEntity);
     }
 
+    /**
+     * Fetches a batch of entities from the database by id in a single query.
+     *
+     * @param ids entity ids to fetch
+     * @return map of entity id to entity object, omitting ids that were not found
+     */
+    public Map<UUID, Entity> getEntitiesByIds(final Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<EntityRow> rows = new ArrayList<>();
+        repository.findAllById(new HashSet<>(ids)).forEach(rows::add);
+
+        return mapRowsToEntities(rows).stream()
+                .collect(Collectors.toMap(Entity::getId, Function.identity()));
+    }
+
     /**
      * Returns a list of entities that have a given schema.
      *
@@ -49,20 +74,78 @@ public class EntityService {
     }
 
     /**
-     * Saves an entity.
+     * Saves an entity in full, after which it is marked clean. An entity read from the database is only written if it
+     * is still at the version it was read at; an entity whose version is not known overwrites the stored one.
      *
      * @param entity entity to save
      * @return post-save version of entity
+     * @throws ObjectOptimisticLockingFailureException if the entity changed in the database since it was read
      */
     public Entity saveEntity(final Entity entity) {
         try {
-            final EntityRow saved = repository.save(mapper.entityToEntityRow(entity));
+            if (entity.getId() != null && entity.getVersion() == null) {
+                repository.findById(entity.getId()).ifPresent(row -> entity.setVersion(row.getVersion()));
+            }
+            final EntityRow saved = repository.saveAndFlush(mapper.entityToEntityRow(entity));
+            entity.setVersion(saved.getVersion());
+            entity.markClean();
             return mapRowToEntity(saved);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Unable to parse schema JSON stored in database.", e);
         }
     }
 
+    /**
+     * Saves a batch of new entities, inserting them with batched statements rather than one round trip per entity.
+     *
+     * @param entities new entities to save
+     * @return post-save versions of the entities, in the same order
+     */
+    public List<Entity> saveNewEntities(final List<Entity> entities) {
+        try {
+            final List<EntityRow> rows = new ArrayList<>(entities.size());
+            for (Entity entity : entities) {
+                rows.add(mapper.entityToEntityRow(entity));
+            }
+            repository.insertAll(rows);
+            return mapRowsToEntities(rows);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to write entity to JSON.", e);
+        }
+    }
+
+    /**
+     * Writes the attributes of an entity that changed since it was read, after which it is marked clean. Where the
+     * database supports it, only the changed attributes are sent and merged into the stored JSON. Otherwise, or if the
+     * entity was not read from the database, it is saved in full with {@link #saveEntity(Entity)}. Either way the write
+     * only applies if the entity is still at the version it was read at.
+     *
+     * @param entity entity to write
+     * @throws ObjectOptimisticLockingFailureException if the entity changed in the database since it was read
+     */
+    public void saveChanges(final Entity entity) {
+        if (!entity.isDirty()) {
+            return;
+        }
+
+        if (entity.getId() == null || entity.getVersion() == null || !repository.supportsAttributeMerge()) {
+            saveEntity(entity);
+            return;
+        }
+
+        try {
+            final long version = entity.getVersion();
+            final String attributes = mapper.entityAttributesToJson(entity, entity.getDirtyAttributes());
+            if (repository.mergeAttributes(entity.getId(), version, attributes) == 0) {
+                throw new ObjectOptimisticLockingFailureException(EntityRow.class, entity.getId());
+            }
+            entity.setVersion(version + 1);
+            entity.markClean();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to write entity attributes to JSON.", e);
+        }
+    }
+
     private Entity mapRowToEntity(final EntityRow row) {
         try {
             return mapper.entityRowToEntity(row);
@@ -72,4 +155,14 @@ public class EntityService {
             throw new RuntimeException("Entity referenced missing schema: " + row.getSchema(), e);
         }
     }
+
+    private List<Entity> mapRowsToEntities(final List<EntityRow> rows) {
+        try {
+            return mapper.entityRowsToEntities(rows);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to parse schema JSON stored in database.", e);
+        } catch (MissingSchemaException e) {
+            throw new RuntimeException("Entity referenced missing schema.", e);
+        }
+    }
 }
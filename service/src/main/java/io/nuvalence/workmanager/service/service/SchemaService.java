@@ -1,11 +1,14 @@
 package io.nuvalence.workmanager.service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.workmanager.service.config.CacheConfig;
 import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
 import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
 import io.nuvalence.workmanager.service.mapper.SchemaMapper;
 import io.nuvalence.workmanager.service.repository.SchemaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -23,11 +26,12 @@ public class SchemaService {
     private final SchemaRepository schemaRepository;
 
     /**
-     * Fetches a schema from the database by name (primary key).
+     * Fetches a schema from the database by name (primary key). Compiled schemas are cached by name.
      *
      * @param name Schema name to fetch
      * @return Schema object
      */
+    @Cacheable(cacheNames = CacheConfig.SCHEMA_CACHE, unless = "#result == null")
     public Optional<Schema> getSchemaByName(final String name) {
         return schemaRepository.findById(name).map(row -> {
             try {
@@ -64,10 +68,11 @@ public class SchemaService {
     }
 
     /**
-     * Saves a schema.
+     * Saves a schema, evicting any cached copy of it.
      *
      * @param schema Schema to save.
      */
+    @CacheEvict(cacheNames = CacheConfig.SCHEMA_CACHE, key = "#p0.name")
     public void saveSchema(final Schema schema) {
         try {
             schemaRepository.save(SchemaMapper.INSTANCE.schemaToSchemaRow(schema));
@@ -0,0 +1,119 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service layer to create transactions in bulk.
+ * Transactions are created in chunks, each in its own database transaction: the process instances of a chunk are
+ * started together and its entities and transactions are inserted with batched statements. A chunk that fails is
+ * retried one transaction at a time, so a failure only affects the transactions that cannot be created instead of
+ * the whole batch.
+ */
+@Component
+@Slf4j
+public class TransactionBatchService {
+    private final TransactionFactory factory;
+    private final TransactionRepository repository;
+    private final TransactionStatusCounterService statusCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * Constructs a new instance of a TransactionBatchService.
+     *
+     * @param factory factory initializing new transactions
+     * @param repository repository for transactions
+     * @param statusCounterService service maintaining the materialized status counts
+     * @param eventPublisher publisher of the creation of each transaction
+     * @param transactionManager manager of the database transactions each chunk is created in
+     * @param chunkSize number of transactions created per database transaction
+     */
+    public TransactionBatchService(final TransactionFactory factory,
+                                   final TransactionRepository repository,
+                                   final TransactionStatusCounterService statusCounterService,
+                                   final ApplicationEventPublisher eventPublisher,
+                                   final PlatformTransactionManager transactionManager,
+                                   @Value("${transactions.batch.chunkSize:100}") final int chunkSize) {
+        this.factory = factory;
+        this.repository = repository;
+        this.statusCounterService = statusCounterService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates several new transactions for a transaction definition. The definition's schema and the creating user are
+     * resolved once for the whole batch.
+     *
+     * @param definition Type of transaction to create
+     * @param count number of transactions to create
+     * @return one result per transaction, in creation order
+     * @throws MissingSchemaException if the transaction definition references a schema that does not exist
+     */
+    public List<TransactionCreationResult> createTransactions(final TransactionDefinition definition, final int count)
+            throws MissingSchemaException {
+        final TransactionCreationContext context = factory.prepareCreation(definition);
+        final List<TransactionCreationResult> results = new ArrayList<>(count);
+        for (int created = 0; created < count; created += chunkSize) {
+            results.addAll(createChunk(context, Math.min(chunkSize, count - created)));
+        }
+
+        return results;
+    }
+
+    private List<TransactionCreationResult> createChunk(final TransactionCreationContext context, final int size) {
+        try {
+            return transactionTemplate.execute(status -> saveNewTransactions(context, size)).stream()
+                    .map(transaction -> TransactionCreationResult.created(transaction.getId()))
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            if (size == 1) {
+                log.warn(String.format("Unable to create transaction of definition [%s].",
+                        context.getDefinition().getKey()), e);
+                return List.of(TransactionCreationResult.failed(e.getMessage()));
+            }
+
+            log.warn(String.format("Unable to create a chunk of %d transactions; retrying them one at a time.", size),
+                    e);
+            final List<TransactionCreationResult> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.addAll(createChunk(context, 1));
+            }
+
+            return results;
+        }
+    }
+
+    private List<Transaction> saveNewTransactions(final TransactionCreationContext context, final int size) {
+        try {
+            final List<Transaction> transactions = factory.createTransactions(context, size);
+            repository.insertAll(transactions);
+            statusCounterService.recordCreated(transactions);
+            transactions.forEach(transaction ->
+                    eventPublisher.publishEvent(TransactionEvent.created(transaction, context.getDefinition())));
+
+            return transactions;
+        } catch (MissingEntityException e) {
+            throw new IllegalStateException("Entity of a new transaction could not be loaded.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * What the transactions created in one batch have in common, resolved once for the whole batch by
+ * {@link TransactionFactory#prepareCreation(TransactionDefinition)}.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class TransactionCreationContext {
+    private final TransactionDefinition definition;
+    private final Schema schema;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final TransactionFactory.Creator creator;
+}
@@ -1,8 +1,11 @@
 package io.nuvalence.workmanager.service.service;
 
+import io.nuvalence.workmanager.service.config.CacheConfig;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.repository.TransactionDefinitionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -40,6 +43,21 @@ public class TransactionDefinitionService {
         return repository.searchByKey(key).stream().findFirst();
     }
 
+    /**
+     * Fetches the category of the latest version of a transaction definition. Categories are cached by key, so that
+     * transaction events can carry them without loading each transaction's definition.
+     *
+     * @param key transaction definition key
+     * @return category of the transaction definition, or null if it has none or does not exist
+     */
+    @Cacheable(cacheNames = CacheConfig.TRANSACTION_DEFINITION_CATEGORY_CACHE)
+    public String getCategoryByKey(final String key) {
+        return repository.searchByKey(key).stream()
+                .findFirst()
+                .map(TransactionDefinition::getCategory)
+                .orElse(null);
+    }
+
     /**
      * Returns a list of transaction definitions whose names match the query passed in.
      *
@@ -74,6 +92,7 @@ public class TransactionDefinitionService {
      * @param transactionDefinition transaction definition to save
      * @return post-save version of transaction definition
      */
+    @CacheEvict(cacheNames = CacheConfig.TRANSACTION_DEFINITION_CATEGORY_CACHE, key = "#p0.key")
     public TransactionDefinition saveTransactionDefinition(final TransactionDefinition transactionDefinition) {
         return repository.save(transactionDefinition);
     }
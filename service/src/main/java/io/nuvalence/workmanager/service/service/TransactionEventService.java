@@ -0,0 +1,155 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.generated.models.TransactionEventModel;
+import io.nuvalence.workmanager.service.mapper.TransactionEventMapper;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+
+/**
+ * Service pushing transaction changes to clients subscribed through Server-Sent Events.
+ * Events are published by the services changing transactions and delivered once the database transaction commits,
+ * so subscribers never see changes that are rolled back. Delivery never blocks the committing thread: events are
+ * buffered per subscriber and sent by a small pool of sender threads. A subscriber whose buffer fills up is dropped
+ * and its stream closed; clients are expected to reconnect and refresh their view of the transactions.
+ */
+@Component
+@Slf4j
+public class TransactionEventService {
+    private final Set<TransactionEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    @Setter(AccessLevel.PACKAGE)
+    private ExecutorService sender;
+
+    /**
+     * Constructs a new instance of a TransactionEventService.
+     *
+     * @param bufferSize maximum number of events waiting to be sent to a subscriber before it is dropped
+     * @param timeoutMillis time after which a subscription ends, and the client reconnects
+     * @param senderThreads number of threads sending events to subscribers
+     */
+    public TransactionEventService(@Value("${transactions.events.bufferSize:100}") final int bufferSize,
+                                   @Value("${transactions.events.timeoutMillis:1800000}") final long timeoutMillis,
+                                   @Value("${transactions.events.senderThreads:4}") final int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "transaction-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Subscribes to the events of the transactions matching the filters.
+     *
+     * @param filters definition key, category and assignees to filter events by; other filters are ignored
+     * @return emitter the events are sent through
+     */
+    public SseEmitter subscribe(final TransactionFilters filters) {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        final TransactionEventSubscription subscription =
+                new TransactionEventSubscription(emitter, filters, bufferSize);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+
+        return emitter;
+    }
+
+    /**
+     * Queues a committed transaction event for the subscribers it matches. Events published outside of a database
+     * transaction are queued immediately.
+     *
+     * @param event transaction event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionEvent(final TransactionEvent event) {
+        for (TransactionEventSubscription subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                if (!subscription.offer(event)) {
+                    subscriptions.remove(subscription);
+                    log.info("Dropping a transaction event subscriber that is not keeping up.");
+                }
+                scheduleSending(subscription);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of clients currently subscribed.
+     *
+     * @return number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Stops the threads sending events.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void scheduleSending(final TransactionEventSubscription subscription) {
+        if (subscription.startSending()) {
+            try {
+                sender.execute(() -> send(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.stopSending();
+            }
+        }
+    }
+
+    private void send(final TransactionEventSubscription subscription) {
+        try {
+            TransactionEvent event = subscription.isDropped() ? null : subscription.poll();
+            while (event != null) {
+                final TransactionEventModel model = TransactionEventMapper.INSTANCE
+                        .transactionEventToTransactionEventModel(event);
+                subscription.getEmitter().send(SseEmitter.event()
+                        .name(model.getType().getValue())
+                        .data(model, MediaType.APPLICATION_JSON));
+                event = subscription.isDropped() ? null : subscription.poll();
+            }
+
+            if (subscription.isDropped()) {
+                subscription.close();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // the client went away; the container reports the error to the emitter
+            subscriptions.remove(subscription);
+            log.debug("Unable to send a transaction event to a subscriber.", e);
+            return;
+        } finally {
+            subscription.stopSending();
+        }
+
+        // events offered, or the subscriber dropped, after the last check are not lost
+        if (subscription.hasWork()) {
+            scheduleSending(subscription);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Client subscribed to the transaction event stream, with the events waiting to be sent to it. The buffer of waiting
+ * events is bounded: a client that does not keep up is dropped rather than have its events pile up in memory.
+ */
+class TransactionEventSubscription {
+    @Getter
+    private final SseEmitter emitter;
+
+    private final TransactionFilters filters;
+    private final BlockingQueue<TransactionEvent> buffer;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean dropped;
+
+    TransactionEventSubscription(final SseEmitter emitter, final TransactionFilters filters, final int bufferSize) {
+        this.emitter = emitter;
+        this.filters = filters;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Whether the subscriber is interested in an event. Categories match by prefix, as they do when searching
+     * transactions, and assignee filters match both the previous and the new assignee.
+     *
+     * @param event transaction event
+     * @return true if the event passes the subscriber's filters
+     */
+    boolean matches(final TransactionEvent event) {
+        if (StringUtils.isNotBlank(filters.getTransactionDefinitionKey())
+                && !filters.getTransactionDefinitionKey().equals(event.getTransactionDefinitionKey())) {
+            return false;
+        }
+
+        if (StringUtils.isNotBlank(filters.getCategory())
+                && !StringUtils.startsWith(event.getCategory(), filters.getCategory())) {
+            return false;
+        }
+
+        final List<String> assignedTo = filters.getAssignedTo();
+        return assignedTo == null || assignedTo.isEmpty()
+                || assignedTo.contains(event.getAssignedTo()) || assignedTo.contains(event.getPreviousAssignedTo());
+    }
+
+    /**
+     * Adds an event to the buffer, unless it is full. A subscriber whose buffer is full is marked as dropped.
+     *
+     * @param event transaction event
+     * @return true if the event was buffered, false if the subscriber was dropped
+     */
+    boolean offer(final TransactionEvent event) {
+        if (!dropped && !buffer.offer(event)) {
+            dropped = true;
+        }
+
+        return !dropped;
+    }
+
+    TransactionEvent poll() {
+        return buffer.poll();
+    }
+
+    /**
+     * Whether there is something left to send: pending events, or the end of the stream for a dropped subscriber.
+     *
+     * @return true if the subscriber's events need sending
+     */
+    boolean hasWork() {
+        return dropped ? !closed.get() : !buffer.isEmpty();
+    }
+
+    boolean isDropped() {
+        return dropped;
+    }
+
+    /**
+     * Claims the right to send this subscriber's events, so that they are sent by one thread at a time and in order.
+     *
+     * @return true if the caller should send the events, false if another thread already is
+     */
+    boolean startSending() {
+        return sending.compareAndSet(false, true);
+    }
+
+    void stopSending() {
+        sending.set(false);
+    }
+
+    /**
+     * Ends the stream of events, once.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessInstanceWithVariablesImpl;
@@ -22,8 +23,13 @@ import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Factory that encapsulates transaction initialization logic.
@@ -51,6 +57,72 @@ public class TransactionFactory {
      */
     public Transaction createTransaction(final TransactionDefinition definition)
             throws MissingSchemaException, MissingEntityException {
+        final Creator creator = resolveCreator();
+        final ProcessInstance processInstance = processEngine.getRuntimeService()
+                .startProcessInstanceByKey(definition.getProcessDefinitionKey());
+        final Schema schema = schemaService.getSchemaByName(definition.getEntitySchema())
+                .orElseThrow(() -> new MissingSchemaException(definition.getEntitySchema()));
+        final Entity entity = entityService.saveEntity(new Entity(schema));
+        final Transaction transaction = buildTransaction(definition, creator, processInstance, entity.getId(),
+                OffsetDateTime.now(clock));
+        transaction.loadEntity(entityService);
+
+        return transaction;
+    }
+
+    /**
+     * Resolves what every transaction created for a transaction definition in one batch has in common: the definition
+     * itself, its entity schema and the creating user. This is done once so that creating each transaction of the
+     * batch does not repeat these lookups.
+     *
+     * @param definition Type of transaction to create
+     * @return context to create the transactions of a batch in
+     * @throws MissingSchemaException if the transaction definition references a schema that does not exist
+     */
+    public TransactionCreationContext prepareCreation(final TransactionDefinition definition)
+            throws MissingSchemaException {
+        final Schema schema = schemaService.getSchemaByName(definition.getEntitySchema())
+                .orElseThrow(() -> new MissingSchemaException(definition.getEntitySchema()));
+
+        return new TransactionCreationContext(definition, schema, resolveCreator());
+    }
+
+    /**
+     * Creates several new transactions of a batch. A process instance is started for each, and their entities are
+     * saved together. The transactions themselves are returned unsaved.
+     *
+     * @param context context of the batch, from {@link #prepareCreation(TransactionDefinition)}
+     * @param count number of transactions to create
+     * @return the new transactions, with their entities loaded
+     * @throws MissingEntityException if an entity cannot be loaded post-creation
+     */
+    public List<Transaction> createTransactions(final TransactionCreationContext context, final int count)
+            throws MissingEntityException {
+        final TransactionDefinition definition = context.getDefinition();
+        final List<ProcessInstance> processInstances = new ArrayList<>(count);
+        final List<Entity> newEntities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processInstances.add(processEngine.getRuntimeService()
+                    .startProcessInstanceByKey(definition.getProcessDefinitionKey()));
+            newEntities.add(new Entity(context.getSchema()));
+        }
+
+        final List<Entity> entities = entityService.saveNewEntities(newEntities);
+        final Map<UUID, Entity> entitiesById = entities.stream()
+                .collect(Collectors.toMap(Entity::getId, Function.identity()));
+        final OffsetDateTime now = OffsetDateTime.now(clock);
+        final List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Transaction transaction = buildTransaction(definition, context.getCreator(),
+                    processInstances.get(i), entities.get(i).getId(), now);
+            transaction.loadEntity(entitiesById);
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+
+    private Creator resolveCreator() {
         String createdByEmail = "dummyUser@email.com";
         UUID createdByUserId = new UUID(0L, 0L);
         UUID subjectUserId = new UUID(0L, 0L);
@@ -70,13 +142,14 @@ public class TransactionFactory {
             }
         }
 
+        return new Creator(
+                createdByUserId != new UUID(0L, 0L) ? createdByUserId.toString() : createdByEmail,
+                subjectUserId != new UUID(0L, 0L) ? subjectUserId.toString() : createdByEmail);
+    }
 
-        final ProcessInstance processInstance = processEngine.getRuntimeService()
-                .startProcessInstanceByKey(definition.getProcessDefinitionKey());
-        final Schema schema = schemaService.getSchemaByName(definition.getEntitySchema())
-                .orElseThrow(() -> new MissingSchemaException(definition.getEntitySchema()));
-        final Entity entity = entityService.saveEntity(new Entity(schema));
-        final OffsetDateTime now = OffsetDateTime.now(clock);
+    private Transaction buildTransaction(final TransactionDefinition definition, final Creator creator,
+                                         final ProcessInstance processInstance, final UUID entityId,
+                                         final OffsetDateTime now) {
         // get the status from the execution entity set by the sequence flow listener
         String status;
         try {
@@ -89,21 +162,28 @@ public class TransactionFactory {
             log.warn("Status not set on initial workflow instance; defaulting.");
             status = definition.getDefaultStatus();
         }
-        final Transaction transaction = Transaction.builder()
+
+        return Transaction.builder()
                 .transactionDefinitionId(definition.getId())
                 .transactionDefinitionKey(definition.getKey())
                 .processInstanceId(processInstance.getId())
-                .entityId(entity.getId())
+                .entityId(entityId)
                 .status(status)
                 .priority("medium") // default to medium TODO: check with FE dropdown to ingest that
-                .createdBy(createdByUserId != new UUID(0L, 0L) ? createdByUserId.toString() : createdByEmail)
-                .subjectUserId(subjectUserId != new UUID(0L, 0L) ? subjectUserId.toString() : createdByEmail)
+                .createdBy(creator.getCreatedBy())
+                .subjectUserId(creator.getSubjectUserId())
                 .assignedTo("") // TODO: We should determine if a default assignee is set
                 .createdTimestamp(now)
                 .lastUpdatedTimestamp(now)
                 .build();
-        transaction.loadEntity(entityService);
+    }
 
-        return transaction;
+    /**
+     * User a transaction is created by and on behalf of.
+     */
+    @Value
+    static class Creator {
+        String createdBy;
+        String subjectUserId;
     }
 }
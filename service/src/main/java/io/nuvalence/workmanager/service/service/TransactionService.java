@@ -1,30 +1,49 @@
 package io.nuvalence.workmanager.service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
 import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.InvalidCursorException;
+import io.nuvalence.workmanager.service.models.TransactionCursor;
+import io.nuvalence.workmanager.service.models.TransactionCursorPage;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import io.nuvalence.workmanager.service.specifications.TransactionSpecification;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 
@@ -41,6 +60,16 @@ public class TransactionService {
     private final TransactionTaskService transactionTaskService;
     private final EntityService entityService;
     private final WorkflowTasksService workflowTasksService;
+    private final TransactionStatusCounterService statusCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionDefinitionService transactionDefinitionService;
+
+    @Setter(AccessLevel.PACKAGE)
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Value("${transactions.export.chunkSize:500}")
+    @Setter(AccessLevel.PACKAGE)
+    private int exportChunkSize = 500;
 
     /**
      * Create a new transaction for a given transaction definition.
@@ -66,7 +95,12 @@ public class TransactionService {
      */
     public Transaction createTransaction(final TransactionDefinition definition, String jwt)
             throws MissingSchemaException, MissingEntityException {
-        return repository.save(factory.createTransaction(definition));
+        final Transaction transaction = factory.createTransaction(definition);
+        final Transaction saved = repository.save(transaction);
+        statusCounterService.recordChange(transaction);
+        eventPublisher.publishEvent(TransactionEvent.created(transaction, definition));
+
+        return saved;
     }
 
     /**
@@ -111,31 +145,68 @@ public class TransactionService {
     }
 
     /**
-     * Updates the transaction in the database.
+     * Updates the transaction in the database. Only the entity attributes that changed are written, and a
+     * transaction still attached to the persistence context is not reloaded. Every update advances the last updated
+     * timestamp, and with it the transaction version, so the version also covers changes made only to the entity.
+     * Changes of status or assignee are published as transaction events.
      *
      * @param transaction Transaction containing updated data.
-     * @return Transaction post-update
-     * @throws MissingEntityException If transaction references an entity that does not exist
+     * @return Transaction post-update, with its new version; a copy of the given transaction if that was detached
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the transaction or its entity
+     *                                                                         changed since they were read
      */
-    public Transaction updateTransaction(final Transaction transaction) throws MissingEntityException {
-        entityService.saveEntity(transaction.getData());
-        repository.save(transaction);
+    public Transaction updateTransaction(final Transaction transaction) {
+        transaction.setLastUpdatedTimestamp(OffsetDateTime.now(clock));
+        if (transaction.getData() != null) {
+            entityService.saveChanges(transaction.getData());
+        }
+        final Transaction saved = save(transaction);
+        publishChanges(saved);
+        statusCounterService.recordChange(saved);
 
-        return getTransactionById(transaction.getId()).orElseThrow();
+        return saved;
+    }
+
+    /**
+     * Sets the district of the transaction running in a process instance without loading it. District is not part of
+     * the materialized status counts, so none need adjusting.
+     *
+     * @param processInstanceId ID of the process instance
+     * @param district new district, or null to clear it
+     * @return true if the district changed, false if it already held the value or no transaction matched
+     */
+    public boolean updateDistrictByProcessInstanceId(final String processInstanceId, final String district) {
+        return repository.updateDistrictByProcessInstanceId(processInstanceId, district, OffsetDateTime.now(clock)) > 0;
     }
 
     /**
-     * Completes the given task, posting to the workflow the data in the transaction.
+     * Completes the given task, posting to the workflow the data in the transaction. A status set by the workflow is
+     * saved, advancing the last updated timestamp and the transaction version, and published as a transaction event.
      *
      * @param transaction Transaction to complete task on
      * @param taskId ID of task to complete
      * @param condition optional condition passed that influences decisions in workflow
+     * @return Transaction post-completion, with its new version if the status changed; a copy of the given transaction
+     *         if that was detached
      * @throws MissingTaskException If the process instance for this transaction does not have a task matching taskId
      * @throws JsonProcessingException If the data could not be serialized to JSON
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the transaction changed since it was
+     *                                                                         read
      */
-    public void completeTask(final Transaction transaction, final String taskId, final String condition)
+    public Transaction completeTask(final Transaction transaction, final String taskId, final String condition)
             throws MissingTaskException, JsonProcessingException {
+        final String previousStatus = transaction.getStatus();
         transactionTaskService.completeTask(transaction, taskId, condition);
+        if (Objects.equals(previousStatus, transaction.getStatus())) {
+            return transaction;
+        }
+
+        transaction.setLastUpdatedTimestamp(OffsetDateTime.now(clock));
+        final Transaction saved = save(transaction);
+        publishChanges(saved);
+        statusCounterService.recordChange(saved);
+
+        return saved;
     }
 
     /**
@@ -147,12 +218,7 @@ public class TransactionService {
      */
     public List<Transaction> getTransactionsForDefinition(final String transactionDefinitionKey)
             throws MissingEntityException {
-        List<Transaction> results = new ArrayList<>();
-        for (Transaction transaction : repository.searchByTransactionDefinitionKey(transactionDefinitionKey)) {
-            transaction.loadEntity(entityService);
-            results.add(transaction);
-        }
-        return results;
+        return loadEntities(repository.searchByTransactionDefinitionKey(transactionDefinitionKey));
     }
 
     /**
@@ -164,12 +230,7 @@ public class TransactionService {
      */
     public List<Transaction> getTransactionsByCategory(final String category)
             throws MissingEntityException {
-        List<Transaction> results = new ArrayList<>();
-        for (Transaction transaction : repository.searchByCategory(category)) {
-            transaction.loadEntity(entityService);
-            results.add(transaction);
-        }
-        return results;
+        return loadEntities(repository.searchByCategory(category));
     }
 
     /**
@@ -204,28 +265,95 @@ public class TransactionService {
             }
         }
 
-        Map<String, List<String>> statusMap = workflowTasksService.getStatusMap(
-                filters.getCategory(),
-                filters.getTransactionDefinitionKey()
-        );
-
-        filters.setStatus(getInternalStatusesFromPublicStatusList(filters.getStatus(), statusMap));
-
         Page<Transaction> transactions = repository.findAll(
-                new TransactionSpecification().getTransactions(filters),
+                createSpecification(filters),
                 PageRequest.of(
                         filters.getPageNumber() != null ? filters.getPageNumber() : 0,
-                        filters.getPageSize() != null ? filters.getPageSize() : 25,
+                        filters.getPageSizeOrDefault(),
                         sort)
         );
 
-        for (Transaction t : transactions) {
-            t.loadEntity(entityService);
-        }
+        loadEntities(transactions.getContent());
 
         return transactions;
     }
 
+    /**
+     * Gets a page of filtered transactions using keyset pagination.
+     * Rather than skipping rows with an offset, the page starts after the sort value and ID encoded in the filters'
+     * cursor, so deep pages cost the same as the first one. The total count is only computed when requested.
+     *
+     * @param filters What to filter/sort the transactions by, with the cursor to continue after (if any)
+     * @return Page of transactions with the cursor for the following page
+     * @throws MissingEntityException If any of the transactions returned reference missing entities
+     * @throws InvalidCursorException If the cursor is malformed or was issued for a different sort order
+     */
+    public TransactionCursorPage getFilteredTransactionsAfterCursor(final TransactionFilters filters)
+            throws MissingEntityException, InvalidCursorException {
+        final String sortCol = TransactionSpecification.resolveSortColumn(filters.getSortCol())
+                .orElse("createdTimestamp");
+        final boolean descending = isDescending(filters);
+        final int pageSize = filters.getPageSizeOrDefault();
+
+        final Specification<Transaction> specification = createSpecification(filters);
+        Specification<Transaction> pageSpecification = specification;
+        if (StringUtils.isNotBlank(filters.getCursor())) {
+            final TransactionCursor cursor = TransactionCursor.decode(filters.getCursor());
+            if (!cursor.getSortCol().equals(sortCol) || cursor.isDescending() != descending) {
+                throw new InvalidCursorException("Cursor was issued for a different sort order.");
+            }
+            pageSpecification = specification.and(new TransactionSpecification().after(cursor));
+        }
+
+        final List<Transaction> transactions =
+                repository.findFirstInKeysetOrder(pageSpecification, sortCol, descending, pageSize + 1);
+        final boolean hasNext = transactions.size() > pageSize;
+        final List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+
+        loadEntities(page);
+
+        return new TransactionCursorPage(
+                page,
+                hasNext ? TransactionCursor.after(page.get(page.size() - 1), sortCol, descending).encode() : null,
+                Boolean.FALSE.equals(filters.getIncludeTotal()) ? null : repository.count(specification)
+        );
+    }
+
+    /**
+     * Exports every transaction matching the filters, in sort order and without paging. Transactions are read through
+     * a database cursor in chunks and each chunk, with its entities loaded, is mapped to rows. The chunk is then
+     * released from the persistence context before its rows are handed to the consumer, so memory use does not grow
+     * with the number of transactions exported and the consumer works on plain rows rather than managed entities.
+     *
+     * @param filters What to filter/sort the transactions by; paging options are ignored
+     * @param rowMapper Maps each chunk of transactions to rows while the transactions are loaded
+     * @param consumer Receives the rows of each chunk in order
+     * @param <T> Type of the rows of a chunk
+     * @throws MissingEntityException If any of the transactions reference missing entities
+     */
+    public <T> void exportTransactions(final TransactionFilters filters,
+                                       final Function<List<Transaction>, T> rowMapper,
+                                       final Consumer<T> consumer) throws MissingEntityException {
+        final String sortCol = TransactionSpecification.resolveSortColumn(filters.getSortCol())
+                .orElse("createdTimestamp");
+        final boolean descending = isDescending(filters);
+
+        try (Stream<Transaction> transactions = repository.streamInKeysetOrder(
+                createSpecification(filters), sortCol, descending, exportChunkSize)) {
+            final Iterator<Transaction> iterator = transactions.iterator();
+            List<Transaction> chunk = new ArrayList<>(exportChunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == exportChunkSize || !iterator.hasNext()) {
+                    final T rows = rowMapper.apply(loadEntities(chunk));
+                    repository.detachAll();
+                    consumer.accept(rows);
+                    chunk = new ArrayList<>(exportChunkSize);
+                }
+            }
+        }
+    }
+
     /**
      * Get list of statuses with a count of how many transactions have each status.
      *
@@ -244,18 +372,16 @@ public class TransactionService {
 
         filters.setStatus(getInternalStatusesFromPublicStatusList(filters.getStatus(), statusMap));
 
-        List<TransactionCountByStatusModel> counts = repository
-                .getTransactionCountsByStatus(new TransactionSpecification().getTransactions(filters));
+        List<TransactionCountByStatusModel> counts = statusCounterService.getTransactionCountsByStatus(filters)
+                .orElseGet(() -> repository.getTransactionCountsByStatus(
+                        new TransactionSpecification().getTransactions(filters)));
 
         // map the internal status to the public status
-        counts.forEach(c -> {
-            for (Map.Entry<String, List<String>> entry : statusMap.entrySet()) {
-                if (entry.getValue().stream().anyMatch(internalStatus ->
-                        internalStatus.equalsIgnoreCase(c.getStatus()))) {
-                    c.setStatus(entry.getKey());
-                }
-            }
-        });
+        Map<String, String> publicStatuses = new HashMap<>();
+        statusMap.forEach((publicStatus, internalStatuses) -> internalStatuses.forEach(internalStatus ->
+                publicStatuses.put(internalStatus.toLowerCase(Locale.ROOT), publicStatus)));
+        counts.forEach(c -> c.setStatus(
+                publicStatuses.getOrDefault(c.getStatus().toLowerCase(Locale.ROOT), c.getStatus())));
 
         statuses.forEach(s -> {
             // if a status filter is passed in, only iterate through those statuses being filtered on
@@ -308,12 +434,7 @@ public class TransactionService {
      */
     public List<Transaction> getTransactionsByUser(String userId)
             throws MissingEntityException {
-        List<Transaction> results = new ArrayList<>();
-        for (Transaction transaction : repository.searchByTransactionByUser(userId)) {
-            transaction.loadEntity(entityService);
-            results.add(transaction);
-        }
-        return results;
+        return loadEntities(repository.searchByTransactionByUser(userId));
     }
 
     /**
@@ -325,12 +446,77 @@ public class TransactionService {
      */
     public List<Transaction> getTransactionsByAssignee(String userId)
             throws MissingEntityException {
-        List<Transaction> results = new ArrayList<>();
-        for (Transaction transaction : repository.searchByTransactionByAssignee(userId)) {
-            transaction.loadEntity(entityService);
-            results.add(transaction);
+        return loadEntities(repository.searchByTransactionByAssignee(userId));
+    }
+
+    /**
+     * Hydrates the entities of a list of transactions with a single bulk fetch, rather than one fetch per row.
+     *
+     * @param transactions Transactions to load entities for
+     * @return The same transactions, with their entities loaded
+     * @throws MissingEntityException If any of the transactions reference missing entities
+     */
+    private List<Transaction> loadEntities(final List<Transaction> transactions) throws MissingEntityException {
+        final Map<UUID, Entity> entities = entityService.getEntitiesByIds(
+                transactions.stream().map(Transaction::getEntityId).collect(Collectors.toSet())
+        );
+        for (Transaction transaction : transactions) {
+            transaction.loadEntity(entities);
+        }
+
+        return transactions;
+    }
+
+    private Transaction save(final Transaction transaction) {
+        // a detached transaction (e.g. one loaded by an earlier request-scoped call) is merged into a managed copy,
+        // which is the one holding the incremented version
+        final Transaction saved = repository.saveAndFlush(transaction);
+        if (saved != transaction) {
+            saved.copyTransientState(transaction);
+        }
+
+        return saved;
+    }
+
+    private void publishChanges(final Transaction transaction) {
+        // the count bucket still holds the state the transaction was last counted (i.e. loaded or saved) in
+        final TransactionStatusCounterKey previous = transaction.getCountedAs();
+        if (previous == null) {
+            return;
         }
-        return results;
+
+        final boolean statusChanged = !Objects.equals(previous.getStatus(), transaction.getStatus());
+        final boolean reassigned = !previous.getAssignedTo().equals(Objects.toString(transaction.getAssignedTo(), ""));
+        if (!statusChanged && !reassigned) {
+            return;
+        }
+
+        final String category =
+                transactionDefinitionService.getCategoryByKey(transaction.getTransactionDefinitionKey());
+        if (statusChanged) {
+            eventPublisher.publishEvent(TransactionEvent.statusChanged(transaction, category, previous.getStatus()));
+        }
+        if (reassigned) {
+            eventPublisher.publishEvent(TransactionEvent.assigned(transaction, category, previous.getAssignedTo()));
+        }
+    }
+
+    private Specification<Transaction> createSpecification(final TransactionFilters filters) {
+        Map<String, List<String>> statusMap = workflowTasksService.getStatusMap(
+                filters.getCategory(),
+                filters.getTransactionDefinitionKey()
+        );
+
+        filters.setStatus(getInternalStatusesFromPublicStatusList(filters.getStatus(), statusMap));
+
+        return new TransactionSpecification().getTransactions(filters);
+    }
+
+    private static boolean isDescending(final TransactionFilters filters) {
+        // without an explicit sort, keyset pages are newest first
+        return filters.getSortDir() == null
+                ? StringUtils.isBlank(filters.getSortCol())
+                : filters.getSortDir().equalsIgnoreCase("desc");
     }
 
     private List<String> getInternalStatusesFromPublicStatusList(List<String> statuses,
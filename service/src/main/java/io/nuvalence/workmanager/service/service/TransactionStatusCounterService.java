@@ -0,0 +1,95 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.repository.TransactionStatusCounterRepository;
+import io.nuvalence.workmanager.service.specifications.TransactionStatusCounterSpecification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+/**
+ * Service layer to maintain and read the materialized transaction status counts.
+ * Counts are adjusted in the same database transaction as the transaction they count, so they stay consistent with
+ * the transaction table as long as every change to a transaction's count bucket is recorded here.
+ */
+@Component
+@Transactional
+public class TransactionStatusCounterService {
+    private final TransactionStatusCounterRepository repository;
+    private final boolean readEnabled;
+
+    /**
+     * Constructs a new instance of a TransactionStatusCounterService.
+     *
+     * @param repository repository for the materialized counts
+     * @param readEnabled whether status count queries are answered from the materialized counts
+     */
+    public TransactionStatusCounterService(final TransactionStatusCounterRepository repository,
+                                           @Value("${transactionCounts.materialized.enabled:true}")
+                                           final boolean readEnabled) {
+        this.repository = repository;
+        this.readEnabled = readEnabled;
+    }
+
+    /**
+     * Moves a transaction to the count bucket matching its current state, if that changed since it was last counted.
+     * Transactions that were never counted (i.e. newly created ones) are added to their bucket.
+     *
+     * @param transaction transaction that was created or updated
+     */
+    public void recordChange(final Transaction transaction) {
+        final TransactionStatusCounterKey current = TransactionStatusCounterKey.of(transaction);
+        final TransactionStatusCounterKey previous = transaction.getCountedAs();
+        if (current.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            repository.decrement(previous);
+        }
+        repository.increment(current);
+        transaction.setCountedAs(current);
+    }
+
+    /**
+     * Adds a batch of newly created transactions to their count buckets, with one update per bucket rather than one
+     * per transaction.
+     *
+     * @param transactions transactions that were created
+     */
+    public void recordCreated(final Collection<Transaction> transactions) {
+        final Map<TransactionStatusCounterKey, Long> counts = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            final TransactionStatusCounterKey key = TransactionStatusCounterKey.of(transaction);
+            counts.merge(key, 1L, Long::sum);
+            transaction.setCountedAs(key);
+        }
+        counts.forEach(repository::increment);
+    }
+
+    /**
+     * Get list of statuses with a count of how many transactions have each status, from the materialized counts.
+     *
+     * @param filters What to filter the transactions by, with internal statuses
+     * @return counts per internal status, or empty if the counts cannot answer the filters exactly
+     */
+    public Optional<List<TransactionCountByStatusModel>> getTransactionCountsByStatus(
+            final TransactionFilters filters) {
+        if (!readEnabled || !TransactionStatusCounterSpecification.supports(filters)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(repository.getTransactionCountsByStatus(
+                new TransactionStatusCounterSpecification().getCounters(filters)));
+    }
+}
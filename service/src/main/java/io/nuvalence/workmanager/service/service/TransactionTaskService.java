@@ -5,27 +5,50 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
-import lombok.RequiredArgsConstructor;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusCapture;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.task.Task;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Service to handle task interactions on transactions.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TransactionTaskService {
     private final ProcessEngine processEngine;
     private final EntityMapper entityMapper;
+    private final ObjectMapper objectMapper;
+    private final VariableStrategy variableStrategy;
 
     /**
-     * Completes the given task, posting to the workflow the data in the transaction.
+     * Constructs a new TransactionTaskService.
+     *
+     * @param processEngine Camunda process engine
+     * @param entityMapper mapper producing the generic form of transaction data
+     * @param objectMapper application object mapper, used to serialize transaction data to JSON
+     * @param variableStrategy process variables that carry transaction data to the workflow on task completion
+     */
+    public TransactionTaskService(final ProcessEngine processEngine,
+                                  final EntityMapper entityMapper,
+                                  final ObjectMapper objectMapper,
+                                  @Value("${workflow.taskVariables.strategy:FULL}")
+                                  final VariableStrategy variableStrategy) {
+        this.processEngine = processEngine;
+        this.entityMapper = entityMapper;
+        this.objectMapper = objectMapper;
+        this.variableStrategy = variableStrategy;
+    }
+
+    /**
+     * Completes the given task, posting to the workflow the data in the transaction. A status set by the workflow is
+     * applied to the transaction, which is left for the caller to save.
      *
      * @param transaction Transaction to complete task on
      * @param taskId ID of task to complete
@@ -44,27 +67,55 @@ public class TransactionTaskService {
                 .findFirst()
                 .orElseThrow(() -> new MissingTaskException(transaction, taskId));
 
-        Map<String, Object> dataMap = entityMapper.convertAttributesToGenericMap(transaction.getData());
-        taskService.complete(task.getId(), Map.of(
-                "data", dataMap,
-                "dataJSON", new ObjectMapper().writeValueAsString(dataMap),
-                "condition", condition)
-        );
+        // the status is set by the sequence flow listener while the completion command runs on this thread
+        try (WorkflowStatusCapture capture = WorkflowStatusCapture.start()) {
+            taskService.complete(task.getId(), createCompletionVariables(transaction, condition));
+            capture.getStatus().ifPresentOrElse(
+                    transaction::setStatus,
+                    // if no status set in workflow, keep the same
+                    () -> log.debug("No status set for sequence flow in Camunda workflow")
+            );
+        }
+    }
 
-        // get the status from the execution entity set by the sequence flow listener
-        // for updating a Transaction look into the historyService since taskService.completeTask has happened
-        try {
-            String status =
-                    processEngine.getHistoryService()
-                            .createHistoricVariableInstanceQuery()
-                            .processInstanceIdIn(task.getProcessInstanceId())
-                            .variableName("status")
-                            .singleResult()
-                            .getValue().toString();
-            transaction.setStatus(status);
-        } catch (Exception e) {
-            // if no status set in workflow, keep the same
-            log.warn("No status set for sequence flow in Camunda workflow");
+    private Map<String, Object> createCompletionVariables(final Transaction transaction, final String condition)
+            throws JsonProcessingException {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("condition", condition);
+        if (variableStrategy == VariableStrategy.REFERENCE) {
+            variables.put("transactionId", transaction.getId().toString());
+            variables.put("entityId", transaction.getEntityId().toString());
+
+            return variables;
         }
+
+        final Map<String, Object> dataMap = entityMapper.convertAttributesToGenericMap(transaction.getData());
+        variables.put("dataJSON", objectMapper.writeValueAsString(dataMap));
+        if (variableStrategy == VariableStrategy.FULL) {
+            variables.put("data", dataMap);
+        }
+
+        return variables;
+    }
+
+    /**
+     * Process variables that carry transaction data to the workflow when a task is completed. Every variable is
+     * written to the runtime and history variable tables, so large entities are best passed by reference.
+     */
+    public enum VariableStrategy {
+        /**
+         * Transaction data as an object ({@code data}) and as JSON ({@code dataJSON}).
+         */
+        FULL,
+
+        /**
+         * Transaction data as JSON only ({@code dataJSON}).
+         */
+        JSON,
+
+        /**
+         * The IDs of the transaction ({@code transactionId}) and its entity ({@code entityId}) only.
+         */
+        REFERENCE
     }
 }
@@ -3,6 +3,8 @@ package io.nuvalence.workmanager.service.service;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
 import io.nuvalence.workmanager.service.generated.models.TaskModel;
 import io.nuvalence.workmanager.service.mapper.TaskMapper;
+import io.nuvalence.workmanager.service.utils.camunda.ProcessDefinitionMetadata;
+import io.nuvalence.workmanager.service.utils.camunda.ProcessDefinitionMetadataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.ProcessEngine;
@@ -10,24 +12,13 @@ import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.history.HistoricTaskInstance;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.task.Task;
-import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.BpmnModelInstance;
-import org.camunda.bpm.model.bpmn.instance.ExclusiveGateway;
-import org.camunda.bpm.model.bpmn.instance.FlowNode;
-import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
-import org.camunda.bpm.model.bpmn.instance.UserTask;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
 import org.springframework.stereotype.Service;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import javax.transaction.Transactional;
 
@@ -42,6 +33,7 @@ import javax.transaction.Transactional;
 public class WorkflowTasksService {
     private final ProcessEngine processEngine;
     private final TransactionDefinitionService transactionDefinitionService;
+    private final ProcessDefinitionMetadataCache processDefinitionMetadataCache;
 
     /**
      * Gets all active tasks for a transaction.
@@ -60,28 +52,9 @@ public class WorkflowTasksService {
 
         for (Task task : activeTasks) {
             TaskModel taskModel = TaskMapper.INSTANCE.taskToTaskModel(task);
-            String processDefinitionKey = processEngine
-                    .getRepositoryService()
-                    .getProcessDefinition(task.getProcessDefinitionId()).getResourceName();
-            BpmnModelInstance modelInstance;
-            try {
-                modelInstance = Bpmn.readModelFromStream(
-                        new FileInputStream(processDefinitionKey));
-                UserTask userTask = modelInstance
-                        .getModelElementById(task.getTaskDefinitionKey());
-                Collection<SequenceFlow> outgoingSequenceFlows = userTask.getOutgoing();
-                outgoingSequenceFlows.forEach(f -> {
-                    FlowNode nextFlowNode = f.getTarget();
-                    if (nextFlowNode instanceof ExclusiveGateway) {
-                        Collection<SequenceFlow> flows = f.getTarget().getOutgoing();
-                        for (SequenceFlow flow : flows) {
-                            taskModel.getTaskConditions().add(flow.getName());
-                        }
-                    }
-                });
-            } catch (FileNotFoundException e) {
-                log.warn("unable to retrieve sequence flow conditions");
-            }
+            taskModel.getTaskConditions().addAll(processDefinitionMetadataCache
+                    .get(task.getProcessDefinitionId())
+                    .getTaskConditions(task.getTaskDefinitionKey()));
             results.add(taskModel);
         }
         return results;
@@ -140,19 +113,10 @@ public class WorkflowTasksService {
         // use Set remove duplicates, i.e. maybe 2 statuses map to 1 public status
         LinkedHashSet<String> distinctStatuses = new LinkedHashSet<>();
         for (ProcessDefinition definition : processDefinitions) {
-            try {
-                BpmnModelInstance modelInstance = Bpmn.readModelFromStream(
-                        new FileInputStream(definition.getResourceName()));
-                Collection<CamundaProperty> properties = modelInstance
-                        .getModelElementsByType(CamundaProperty.class);
-                for (CamundaProperty property : properties) {
-                    if (property.getAttributeValue("name").equals(statusType.propertyName)) {
-                        distinctStatuses.add(property.getCamundaValue());
-                    }
-                }
-            } catch (FileNotFoundException e) {
-                log.warn("error parsing bpmn file {} for workflow statuses", definition.getResourceName());
-            }
+            ProcessDefinitionMetadata metadata = processDefinitionMetadataCache.get(definition.getId());
+            distinctStatuses.addAll(statusType == StatusType.PUBLIC
+                    ? metadata.getPublicStatuses()
+                    : metadata.getInternalStatuses());
         }
         return new ArrayList<>(distinctStatuses);
     }
@@ -164,38 +128,13 @@ public class WorkflowTasksService {
      * @param key optional param to search by definition key
      * @return a map of public to internal statuses
      */
-    @SuppressWarnings("checkstyle:CyclomaticComplexity")
     public Map<String, List<String>> getStatusMap(String category, String key) {
         List<ProcessDefinition> processDefinitions = createProcessDefinitionSearchAndRetrieve(category, key);
 
         Map<String, List<String>> statusMap = new HashMap<>();
         for (ProcessDefinition definition : processDefinitions) {
-            try {
-                BpmnModelInstance modelInstance = Bpmn.readModelFromStream(
-                        new FileInputStream(definition.getResourceName()));
-                Collection<CamundaProperty> properties = modelInstance
-                        .getModelElementsByType(CamundaProperty.class);
-                for (CamundaProperty property : properties) {
-                    if (property.getAttributeValue("name").equals(StatusType.PUBLIC.propertyName)) {
-                        String publicStatus = property.getCamundaValue();
-
-                        Optional<CamundaProperty> internalStatusProperty = property.getParentElement()
-                                .getChildElementsByType(CamundaProperty.class).stream().filter(p ->
-                                        p.getAttributeValue("name")
-                                                .equals(StatusType.INTERNAL.propertyName)
-                                        ).findFirst();
-
-                        if (internalStatusProperty.isPresent()) {
-                            if (!statusMap.containsKey(publicStatus)) {
-                                statusMap.put(publicStatus, new ArrayList<>());
-                            }
-                            statusMap.get(publicStatus).add(internalStatusProperty.get().getCamundaValue());
-                        }
-                    }
-                }
-            } catch (FileNotFoundException e) {
-                log.warn("error parsing bpmn file {} for workflow statuses", definition.getResourceName());
-            }
+            processDefinitionMetadataCache.get(definition.getId()).getStatusMap().forEach((publicStatus, internal) ->
+                    statusMap.computeIfAbsent(publicStatus, s -> new ArrayList<>()).addAll(internal));
         }
 
         return statusMap;
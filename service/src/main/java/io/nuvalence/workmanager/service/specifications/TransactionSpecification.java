@@ -2,19 +2,111 @@ package io.nuvalence.workmanager.service.specifications;
 
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.models.TransactionCursor;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 
 /**
  * A helper class for building a query for transactions.
  */
 public class TransactionSpecification {
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "priority", "priority",
+            "id", "id",
+            "district", "district",
+            "createdtimestamp", "createdTimestamp",
+            "lastupdatedtimestamp", "lastUpdatedTimestamp",
+            "status", "status"
+    );
+
+    /**
+     * Resolves a client-supplied sort column, ignoring case, to the transaction attribute it sorts by.
+     *
+     * @param sortCol sort column requested by the client
+     * @return name of the transaction attribute, or empty if the column cannot be sorted by
+     */
+    public static Optional<String> resolveSortColumn(String sortCol) {
+        return sortCol == null
+                ? Optional.empty()
+                : Optional.ofNullable(SORT_COLUMNS.get(sortCol.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Expressions a keyset-paginated list of transactions is ordered by, before the ID that breaks ties. Nullable text
+     * attributes are preceded by whether they are set, so that nulls come first in ascending order on every database,
+     * and are otherwise compared as they are stored so that cursor comparisons can use their indexes.
+     *
+     * @param root transaction query root
+     * @param criteriaBuilder criteria builder
+     * @param sortCol transaction attribute to sort by
+     * @return sort expressions, empty when sorting by ID alone
+     */
+    public static List<Expression<?>> sortExpressions(Root<Transaction> root, CriteriaBuilder criteriaBuilder,
+                                                      String sortCol) {
+        switch (sortCol) {
+            case "id":
+                return List.of();
+            case "createdTimestamp":
+            case "lastUpdatedTimestamp":
+                return List.of(root.get(sortCol));
+            default:
+                final Path<String> column = root.get(sortCol);
+                return List.of(
+                        criteriaBuilder.<Integer>selectCase().when(criteriaBuilder.isNull(column), 0).otherwise(1),
+                        column);
+        }
+    }
+
+    /**
+     * Builds a criteria restricting transactions to those after a keyset pagination cursor, in the cursor's order.
+     *
+     * @param cursor position of the last transaction already returned
+     * @return A specification matching the transactions after the cursor
+     */
+    public Specification<Transaction> after(TransactionCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            final Path<UUID> id = root.get("id");
+            if ("id".equals(cursor.getSortCol())) {
+                return idAfter(criteriaBuilder, id, cursor);
+            }
+
+            if (cursor.isTimestampSort()) {
+                return seek(criteriaBuilder, root.<OffsetDateTime>get(cursor.getSortCol()),
+                        OffsetDateTime.parse(cursor.getValue()), id, cursor);
+            }
+
+            // nulls come first in ascending order, and last in descending order
+            final Path<String> column = root.get(cursor.getSortCol());
+            if (cursor.getValue() == null) {
+                final Predicate afterAmongNulls = criteriaBuilder.and(
+                        criteriaBuilder.isNull(column), idAfter(criteriaBuilder, id, cursor));
+                return cursor.isDescending()
+                        ? afterAmongNulls
+                        : criteriaBuilder.or(afterAmongNulls, criteriaBuilder.isNotNull(column));
+            }
+
+            final Predicate afterValue = seek(criteriaBuilder, column, cursor.getValue(), id, cursor);
+            return cursor.isDescending()
+                    ? criteriaBuilder.or(afterValue, criteriaBuilder.isNull(column))
+                    : afterValue;
+        };
+    }
+
     /**
      * Builds a criteria list based on the filters.
      *
@@ -25,8 +117,6 @@ public class TransactionSpecification {
     public Specification<Transaction> getTransactions(TransactionFilters filters) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            Join<TransactionDefinition, Transaction> transactionDefinitionJoin = root
-                    .join("transactionDefinition");
 
             if (StringUtils.isNotBlank(filters.getTransactionDefinitionKey())) {
                 predicates.add(criteriaBuilder.equal(root.get("transactionDefinitionKey"),
@@ -34,6 +124,9 @@ public class TransactionSpecification {
             }
 
             if (StringUtils.isNotBlank(filters.getCategory())) {
+                // only join the definition when filtering on it; this join does not fetch the definition
+                Join<Transaction, TransactionDefinition> transactionDefinitionJoin = root
+                        .join("transactionDefinition");
                 predicates.add(criteriaBuilder.like(transactionDefinitionJoin.get("category"),
                         filters.getCategory() + "%"));
             }
@@ -63,4 +156,20 @@ public class TransactionSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder criteriaBuilder,
+                                                                     Expression<? extends Y> column, Y value,
+                                                                     Path<UUID> id, TransactionCursor cursor) {
+        final Predicate beyondValue = cursor.isDescending()
+                ? criteriaBuilder.lessThan(column, value)
+                : criteriaBuilder.greaterThan(column, value);
+        return criteriaBuilder.or(beyondValue,
+                criteriaBuilder.and(criteriaBuilder.equal(column, value), idAfter(criteriaBuilder, id, cursor)));
+    }
+
+    private static Predicate idAfter(CriteriaBuilder criteriaBuilder, Path<UUID> id, TransactionCursor cursor) {
+        return cursor.isDescending()
+                ? criteriaBuilder.lessThan(id, cursor.getId())
+                : criteriaBuilder.greaterThan(id, cursor.getId());
+    }
 }
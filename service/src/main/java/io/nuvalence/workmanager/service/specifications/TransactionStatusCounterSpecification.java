@@ -0,0 +1,100 @@
+package io.nuvalence.workmanager.service.specifications;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounter;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+/**
+ * A helper class for building a query for materialized transaction status counts from transaction filters.
+ */
+public class TransactionStatusCounterSpecification {
+
+    /**
+     * Whether the counts can answer a query with the given filters exactly. Dates must fall on day boundaries, since
+     * transactions are counted per day, and list filters must not contain blank values, since missing priorities and
+     * assignees are counted as blank.
+     *
+     * @param filters The filters to filter the transactions by
+     * @return true if the counts match the transactions selected by the filters
+     */
+    public static boolean supports(TransactionFilters filters) {
+        return isStartOfDay(filters.getStartDate())
+                && isStartOfDay(filters.getEndDate())
+                && hasNoBlankValue(filters.getPriority())
+                && hasNoBlankValue(filters.getStatus())
+                && hasNoBlankValue(filters.getAssignedTo());
+    }
+
+    /**
+     * Builds a criteria list based on the filters. The end date is exclusive: it is the start of the day after the
+     * last day counted.
+     *
+     * @param filters The filters to filter the transactions by
+     * @return A specification selecting the count buckets of the filtered transactions
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public Specification<TransactionStatusCounter> getCounters(TransactionFilters filters) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<?> key = root.get("key");
+
+            if (StringUtils.isNotBlank(filters.getTransactionDefinitionKey())) {
+                predicates.add(criteriaBuilder.equal(key.get("transactionDefinitionKey"),
+                        filters.getTransactionDefinitionKey()));
+            }
+
+            if (StringUtils.isNotBlank(filters.getCategory())) {
+                Subquery<String> definitionKeys = query.subquery(String.class);
+                Root<TransactionDefinition> definition = definitionKeys.from(TransactionDefinition.class);
+                definitionKeys.select(definition.get("key"))
+                        .where(criteriaBuilder.like(definition.get("category"), filters.getCategory() + "%"));
+                predicates.add(key.get("transactionDefinitionKey").in(definitionKeys));
+            }
+
+            if (filters.getStartDate() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(key.get("createdDate"),
+                        filters.getStartDate().atZoneSameInstant(ZoneId.systemDefault()).toLocalDate()));
+            }
+
+            if (filters.getEndDate() != null) {
+                predicates.add(criteriaBuilder.lessThan(key.get("createdDate"),
+                        filters.getEndDate().atZoneSameInstant(ZoneId.systemDefault()).toLocalDate()));
+            }
+
+            if (filters.getPriority() != null && filters.getPriority().size() > 0) {
+                predicates.add(key.get("priority").in(filters.getPriority()));
+            }
+
+            if (filters.getStatus() != null && filters.getStatus().size() > 0) {
+                predicates.add(key.get("status").in(filters.getStatus()));
+            }
+
+            if (filters.getAssignedTo() != null && filters.getAssignedTo().size() > 0) {
+                predicates.add(key.get("assignedTo").in(filters.getAssignedTo()));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean isStartOfDay(OffsetDateTime dateTime) {
+        return dateTime == null
+                || dateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    private static boolean hasNoBlankValue(List<String> values) {
+        return values == null || values.stream().noneMatch(StringUtils::isBlank);
+    }
+}
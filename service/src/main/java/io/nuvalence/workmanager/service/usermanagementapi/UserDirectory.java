@@ -0,0 +1,175 @@
+package io.nuvalence.workmanager.service.usermanagementapi;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.nuvalence.workmanager.service.usermanagementapi.models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Caching directory of users, backed by the User Management API.
+ * Lookups are cached per user id with a bounded size and a per-entry time to live. Users that do not exist are cached
+ * for a shorter period, and concurrent lookups of the same uncached id result in a single call to the API. Users for a
+ * whole page of results can be resolved at once with {@link #getUsersByIds(Collection, String)}. While the API is
+ * unavailable, cached users are still served and users that are not cached are given a placeholder display name.
+ */
+@Component
+@Slf4j
+public class UserDirectory {
+    static final String CACHE_NAME = "users";
+
+    private final UserManagementClient userManagementClient;
+    private final Cache<String, Optional<User>> users;
+    private final Timer loadTimer;
+    private final Counter fallbackCounter;
+    private final String placeholderDisplayName;
+
+    /**
+     * Constructs a new instance of a UserDirectory.
+     *
+     * @param userManagementClient client for the User Management API
+     * @param meterRegistry registry to publish cache and load metrics to
+     * @param maximumSize maximum number of users to keep in memory
+     * @param timeToLiveSeconds seconds before a found user is looked up again
+     * @param notFoundTimeToLiveSeconds seconds before a user that was not found is looked up again
+     * @param placeholderDisplayName display name given to users that cannot be loaded while the API is unavailable
+     */
+    public UserDirectory(final UserManagementClient userManagementClient,
+                         final MeterRegistry meterRegistry,
+                         @Value("${userManagement.cache.maximumSize:10000}") final long maximumSize,
+                         @Value("${userManagement.cache.timeToLiveSeconds:600}") final long timeToLiveSeconds,
+                         @Value("${userManagement.cache.notFoundTimeToLiveSeconds:60}")
+                         final long notFoundTimeToLiveSeconds,
+                         @Value("${userManagement.placeholderDisplayName:Unknown user}")
+                         final String placeholderDisplayName) {
+        this.userManagementClient = userManagementClient;
+        this.placeholderDisplayName = placeholderDisplayName;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UserExpiry(
+                        Duration.ofSeconds(timeToLiveSeconds),
+                        Duration.ofSeconds(notFoundTimeToLiveSeconds)
+                ))
+                .recordStats()
+                .build();
+        this.loadTimer = Timer.builder("user.directory.load")
+                .description("Time taken to load a user from the User Management API")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("user.directory.fallbacks")
+                .description("Users given a placeholder because the User Management API could not be reached")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+    }
+
+    /**
+     * Gets a user by id, loading it from the User Management API if it is not cached.
+     *
+     * @param userId id of the user to get.
+     * @param token token from authorization header to pass to User Management API.
+     * @return The user with the given id, empty if no such user exists, or a placeholder user if the User Management
+     *         API is unavailable. Client errors reported by the API, such as a rejected token, are not hidden
+     *         behind a placeholder and propagate to the caller.
+     */
+    public Optional<User> getUserById(final String userId, final String token) {
+        try {
+            return users.get(userId, id -> loadTimer.record(() -> userManagementClient.getUserById(id, token)));
+        } catch (ResourceAccessException | HttpServerErrorException | CallNotPermittedException e) {
+            log.warn(String.format("Unable to retrieve user [%s] from User Management API", userId), e);
+            return Optional.of(createPlaceholder());
+        }
+    }
+
+    /**
+     * Gets a batch of users by id, loading all uncached ids from the User Management API in one batched call.
+     *
+     * @param userIds ids of the users to get.
+     * @param token token from authorization header to pass to User Management API.
+     * @return Map of user id to user, containing the users that exist and a placeholder user for every id that
+     *         could not be loaded because the User Management API is unavailable.
+     */
+    public Map<String, User> getUsersByIds(final Collection<String> userIds, final String token) {
+        final Set<String> distinctIds = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        final Map<String, Optional<User>> loaded =
+                users.getAll(distinctIds, missing -> loadTimer.record(() -> loadUsersByIds(missing, token)));
+
+        final Map<String, User> result = new HashMap<>();
+        for (String id : distinctIds) {
+            final Optional<User> user = loaded.get(id);
+            if (user == null) {
+                result.put(id, createPlaceholder());
+            } else {
+                user.ifPresent(u -> result.put(id, u));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a user by id only if it has already been cached.
+     *
+     * @param userId id of the user to get.
+     * @return The cached user, or empty if the user is not cached or does not exist.
+     */
+    public Optional<User> getCachedUserById(final String userId) {
+        final Optional<User> user = users.getIfPresent(userId);
+        return user == null ? Optional.empty() : user;
+    }
+
+    private Map<String, Optional<User>> loadUsersByIds(final Iterable<? extends String> userIds, final String token) {
+        final List<String> ids = new ArrayList<>();
+        userIds.forEach(ids::add);
+
+        return userManagementClient.getUsersByIds(ids, token);
+    }
+
+    private User createPlaceholder() {
+        fallbackCounter.increment();
+        return User.builder().displayName(placeholderDisplayName).build();
+    }
+
+    private static final class UserExpiry implements Expiry<String, Optional<User>> {
+        private final long timeToLiveNanos;
+        private final long notFoundTimeToLiveNanos;
+
+        private UserExpiry(final Duration timeToLive, final Duration notFoundTimeToLive) {
+            this.timeToLiveNanos = timeToLive.toNanos();
+            this.notFoundTimeToLiveNanos = notFoundTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+            return value.isPresent() ? timeToLiveNanos : notFoundTimeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package io.nuvalence.workmanager.service.usermanagementapi;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
 
 /**
  * Client to interface with User Management API.
+ * Requests are sent through a circuit breaker, which rejects calls with a
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException} while the API is failing.
  */
 @Component
 @Slf4j
@@ -24,10 +43,24 @@ public class UserManagementClient {
     @Value("${userManagement.baseUrl}")
     private String baseUrl;
 
+    @Value("${userManagement.batchParallelism:8}")
+    private int batchParallelism = 8;
+
     private RestTemplate httpClient;
 
-    public UserManagementClient() {
-        httpClient = new RestTemplate();
+    private final CircuitBreaker circuitBreaker;
+
+    private ExecutorService batchExecutor;
+
+    /**
+     * Constructs a new instance of a UserManagementClient.
+     * @param httpClient RestTemplate backed by the pooled, timeout-bounded User Management HTTP client.
+     * @param circuitBreaker circuit breaker guarding calls to the User Management API.
+     */
+    public UserManagementClient(@Qualifier("userManagementRestTemplate") RestTemplate httpClient,
+                                @Qualifier("userManagementCircuitBreaker") CircuitBreaker circuitBreaker) {
+        this.httpClient = httpClient;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
@@ -68,13 +101,19 @@ public class UserManagementClient {
      * @param userId id to get user by.
      * @param token token from authorization header to pass to User Management API.
      * @param resource optional resource to retrieve permissions for associated application.
-     * @return The user with the given id.
+     * @return The user with the given id, or empty if the API reports no such user.
      */
     public Optional<User> getUserById(String userId, String token, String resource) {
         resource = ensureResourceNameIsInitialized(resource, "transaction_manager");
-        ResponseEntity<User> response =
-                getJson("/api/v2/user/" + userId + "?resource=" + resource,
-                        User.class, token);
+        final ResponseEntity<User> response;
+        try {
+            response = getJson("/api/v2/user/" + userId + "?resource=" + resource, User.class, token);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
 
         if (response.getStatusCode().is2xxSuccessful()) {
             return Optional.ofNullable(response.getBody());
@@ -87,6 +126,48 @@ public class UserManagementClient {
         return this.getUserById(userId, token, null);
     }
 
+    /**
+     * Gets a batch of users by id from the User Management API, issuing the lookups in parallel.
+     * @param userIds ids to get users by.
+     * @param token token from authorization header to pass to User Management API.
+     * @return Map of user id to user for every id the API answered for. Ids the API reports as not found map to an
+     *         empty Optional; ids whose lookup failed because the API was unreachable, failing or shut off by the
+     *         circuit breaker are omitted.
+     * @throws RuntimeException any other failure of a lookup, e.g. a rejected token
+     */
+    public Map<String, Optional<User>> getUsersByIds(Collection<String> userIds, String token) {
+        final Map<String, CompletableFuture<Optional<User>>> lookups = new LinkedHashMap<>();
+        for (String userId : new LinkedHashSet<>(userIds)) {
+            lookups.put(userId, CompletableFuture.supplyAsync(() -> getUserById(userId, token), getBatchExecutor()));
+        }
+
+        final Map<String, Optional<User>> users = new LinkedHashMap<>();
+        lookups.forEach((userId, lookup) -> {
+            try {
+                users.put(userId, lookup.join());
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof ResourceAccessException
+                        || e.getCause() instanceof HttpServerErrorException
+                        || e.getCause() instanceof CallNotPermittedException)) {
+                    throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+                log.error(String.format("Unable to retrieve user [%s] from User Management API", userId), e);
+            }
+        });
+
+        return users;
+    }
+
+    /**
+     * Stops the threads used for batch lookups.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+        }
+    }
+
     private String ensureResourceNameIsInitialized(String resourceName, String defaultResourceName) {
         if (resourceName == null || resourceName.length() == 0) {
             return defaultResourceName;
@@ -95,10 +176,23 @@ public class UserManagementClient {
         return resourceName;
     }
 
+    private synchronized ExecutorService getBatchExecutor() {
+        if (batchExecutor == null) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            batchExecutor = Executors.newFixedThreadPool(batchParallelism, runnable -> {
+                final Thread thread = new Thread(runnable, "user-management-batch-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return batchExecutor;
+    }
+
     private <T> ResponseEntity<T> getJson(String endpoint, Class<T> responseType, String token) {
         final HttpEntity<?> headers = new HttpEntity<>(getHeaders(token));
         String url = baseUrl + endpoint;
-        return httpClient.exchange(url, HttpMethod.GET, headers, responseType);
+        return circuitBreaker.executeSupplier(() -> httpClient.exchange(url, HttpMethod.GET, headers, responseType));
     }
 
     private HttpHeaders getHeaders(String token) {
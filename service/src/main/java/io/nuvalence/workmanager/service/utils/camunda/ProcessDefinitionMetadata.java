@@ -0,0 +1,115 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.ExclusiveGateway;
+import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
+import org.camunda.bpm.model.bpmn.instance.UserTask;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Information derived from a deployed BPMN process definition that the service layer needs on its hot paths.
+ * Instances are immutable and computed once per process definition.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProcessDefinitionMetadata {
+    static final String PUBLIC_STATUS_PROPERTY = "publicStatus";
+    static final String INTERNAL_STATUS_PROPERTY = "status";
+
+    private final BpmnModelInstance modelInstance;
+
+    /**
+     * Distinct public statuses, in document order.
+     */
+    private final List<String> publicStatuses;
+
+    /**
+     * Distinct internal statuses, in document order.
+     */
+    private final List<String> internalStatuses;
+
+    /**
+     * Map of public status to the internal statuses declared alongside it.
+     */
+    private final Map<String, List<String>> statusMap;
+
+    /**
+     * Map of user task id to the names of the flows leaving the exclusive gateways that directly follow it.
+     */
+    private final Map<String, List<String>> taskConditions;
+
+    /**
+     * Derives metadata from a parsed BPMN model.
+     *
+     * @param modelInstance parsed BPMN model
+     * @return metadata for the model
+     */
+    public static ProcessDefinitionMetadata fromModelInstance(final BpmnModelInstance modelInstance) {
+        final LinkedHashSet<String> publicStatuses = new LinkedHashSet<>();
+        final LinkedHashSet<String> internalStatuses = new LinkedHashSet<>();
+        final Map<String, List<String>> statusMap = new HashMap<>();
+
+        for (CamundaProperty property : modelInstance.getModelElementsByType(CamundaProperty.class)) {
+            final String name = property.getAttributeValue("name");
+            if (INTERNAL_STATUS_PROPERTY.equals(name)) {
+                internalStatuses.add(property.getCamundaValue());
+            } else if (PUBLIC_STATUS_PROPERTY.equals(name)) {
+                final String publicStatus = property.getCamundaValue();
+                publicStatuses.add(publicStatus);
+
+                final Optional<CamundaProperty> internalStatusProperty = property.getParentElement()
+                        .getChildElementsByType(CamundaProperty.class).stream()
+                        .filter(p -> INTERNAL_STATUS_PROPERTY.equals(p.getAttributeValue("name")))
+                        .findFirst();
+                internalStatusProperty.ifPresent(p -> statusMap
+                        .computeIfAbsent(publicStatus, key -> new ArrayList<>())
+                        .add(p.getCamundaValue()));
+            }
+        }
+
+        final Map<String, List<String>> taskConditions = new LinkedHashMap<>();
+        for (UserTask userTask : modelInstance.getModelElementsByType(UserTask.class)) {
+            final List<String> conditions = new ArrayList<>();
+            for (SequenceFlow outgoing : userTask.getOutgoing()) {
+                if (outgoing.getTarget() instanceof ExclusiveGateway) {
+                    for (SequenceFlow flow : outgoing.getTarget().getOutgoing()) {
+                        conditions.add(flow.getName());
+                    }
+                }
+            }
+            taskConditions.put(userTask.getId(), Collections.unmodifiableList(conditions));
+        }
+
+        statusMap.replaceAll((key, value) -> Collections.unmodifiableList(value));
+
+        return new ProcessDefinitionMetadata(
+                modelInstance,
+                Collections.unmodifiableList(new ArrayList<>(publicStatuses)),
+                Collections.unmodifiableList(new ArrayList<>(internalStatuses)),
+                Collections.unmodifiableMap(statusMap),
+                Collections.unmodifiableMap(taskConditions)
+        );
+    }
+
+    /**
+     * Returns the conditions available when completing a given user task.
+     *
+     * @param taskDefinitionKey ID of the user task in the BPMN model
+     * @return list of condition names, empty if the task has none
+     */
+    public List<String> getTaskConditions(final String taskDefinitionKey) {
+        return taskConditions.getOrDefault(taskDefinitionKey, Collections.emptyList());
+    }
+}
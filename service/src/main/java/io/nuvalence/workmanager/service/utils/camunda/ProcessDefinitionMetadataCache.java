@@ -0,0 +1,76 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link ProcessDefinitionMetadata} keyed by process definition ID.
+ * Registered as a ProcessEnginePlugin so that metadata for the latest version of every deployed process definition is
+ * built when the engine starts, and again once application start-up deployments have completed. Definitions deployed
+ * at runtime are added on first use. Process definition IDs are immutable per deployment, so entries never need to be
+ * invalidated.
+ */
+@Component
+@Slf4j
+public class ProcessDefinitionMetadataCache implements ProcessEnginePlugin {
+    private final Map<String, ProcessDefinitionMetadata> metadata = new ConcurrentHashMap<>();
+
+    private volatile RepositoryService repositoryService;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // in this case only postProcessEngineBuild is necessary
+    }
+
+    @Override
+    public void postInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // in this case only postProcessEngineBuild is necessary
+    }
+
+    @Override
+    public void postProcessEngineBuild(ProcessEngine processEngine) {
+        repositoryService = processEngine.getRepositoryService();
+        loadLatestProcessDefinitions();
+    }
+
+    /**
+     * Builds metadata for the latest version of every deployed process definition.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLatestProcessDefinitions() {
+        for (ProcessDefinition definition : repositoryService.createProcessDefinitionQuery().latestVersion().list()) {
+            get(definition.getId());
+        }
+        log.info("Cached metadata for {} process definitions", metadata.size());
+    }
+
+    /**
+     * Gets metadata for a process definition, building it from the deployed BPMN model if not yet cached.
+     *
+     * @param processDefinitionId ID of the process definition
+     * @return metadata for the process definition
+     */
+    public ProcessDefinitionMetadata get(final String processDefinitionId) {
+        return metadata.computeIfAbsent(processDefinitionId, id ->
+                ProcessDefinitionMetadata.fromModelInstance(repositoryService.getBpmnModelInstance(id)));
+    }
+
+    /**
+     * Sets the repository service used to load BPMN models (to be used for mocking).
+     *
+     * @param repositoryService Camunda repository service
+     */
+    public void setRepositoryService(final RepositoryService repositoryService) {
+        this.repositoryService = repositoryService;
+    }
+}
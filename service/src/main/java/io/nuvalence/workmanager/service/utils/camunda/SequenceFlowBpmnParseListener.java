@@ -1,7 +1,7 @@
 package io.nuvalence.workmanager.service.utils.camunda;
 
 import lombok.extern.slf4j.Slf4j;
-import org.camunda.bpm.engine.impl.bpmn.listener.ClassDelegateExecutionListener;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
 import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
 import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
@@ -10,6 +10,8 @@ import org.camunda.bpm.engine.impl.util.xml.Element;
 
 /**
  *  BpmnParseListener for sequence flow executions.
+ *  Attaches a {@link SequenceFlowExecutionListener} carrying the statuses of each sequence flow that sets one;
+ *  sequence flows without status properties get no listener.
  *
  */
 @Slf4j
@@ -18,9 +20,8 @@ public class SequenceFlowBpmnParseListener extends AbstractBpmnParseListener imp
     public void parseSequenceFlow(Element sequenceFlowElement, ScopeImpl scopeElement, TransitionImpl transition) {
         super.parseSequenceFlow(sequenceFlowElement, scopeElement, transition);
         try {
-            ClassDelegateExecutionListener classDelegateExecutionListener = new ClassDelegateExecutionListener(
-                    SequenceFlowExecutionListener.class, null);
-            transition.addListener("take", classDelegateExecutionListener);
+            SequenceFlowExecutionListener.forSequenceFlow(sequenceFlowElement)
+                    .ifPresent(listener -> transition.addListener(ExecutionListener.EVENTNAME_TAKE, listener));
         } catch (Exception e) {
             log.error(e.getMessage());
         }
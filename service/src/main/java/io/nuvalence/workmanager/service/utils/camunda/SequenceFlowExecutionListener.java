@@ -1,47 +1,75 @@
 package io.nuvalence.workmanager.service.utils.camunda;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.Getter;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.ExecutionListener;
-import org.camunda.bpm.model.bpmn.impl.instance.SequenceFlowImpl;
-import org.camunda.bpm.model.bpmn.instance.BpmnModelElementInstance;
-import org.camunda.bpm.model.bpmn.instance.ExtensionElements;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.util.xml.Element;
 
-import java.util.Collection;
+import java.util.Optional;
 
 /**
  * ExecutionListener for SequenceFlow executions.
- * Can get the status Extension Property from the workflow & assign to DelegateExecution.
- * Retrieve to set the status on a Transaction.
+ * Assigns the status Extension Properties of the sequence flow, read once when the workflow is parsed, to the
+ * DelegateExecution. Retrieve to set the status on a Transaction, either from the process variables or, for the
+ * command that took the sequence flow, from {@link WorkflowStatusCapture}.
  *
  */
-@Slf4j
+@Getter
 public class SequenceFlowExecutionListener implements ExecutionListener {
+    private final String status;
+    private final String publicStatus;
+
+    /**
+     * Constructs a listener setting constant statuses.
+     *
+     * @param status value of the status property, or null if the sequence flow does not set it
+     * @param publicStatus value of the publicStatus property, or null if the sequence flow does not set it
+     */
+    public SequenceFlowExecutionListener(final String status, final String publicStatus) {
+        this.status = status;
+        this.publicStatus = publicStatus;
+    }
+
+    /**
+     * Creates a listener for a sequence flow from its status and publicStatus Extension Properties.
+     *
+     * @param sequenceFlowElement parsed sequence flow element
+     * @return listener, or empty if the sequence flow sets neither status
+     */
+    public static Optional<SequenceFlowExecutionListener> forSequenceFlow(final Element sequenceFlowElement) {
+        final Element extensionElements = sequenceFlowElement.element("extensionElements");
+        final Element properties = extensionElements == null
+                ? null
+                : extensionElements.elementNS(BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS, "properties");
+        if (properties == null) {
+            return Optional.empty();
+        }
+
+        String status = null;
+        String publicStatus = null;
+        for (Element property : properties.elementsNS(BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS, "property")) {
+            if ("status".equals(property.attribute("name"))) {
+                status = property.attribute("value");
+            }
+            if ("publicStatus".equals(property.attribute("name"))) {
+                publicStatus = property.attribute("value");
+            }
+        }
+
+        return status == null && publicStatus == null
+                ? Optional.empty()
+                : Optional.of(new SequenceFlowExecutionListener(status, publicStatus));
+    }
+
     @Override
     public void notify(DelegateExecution delegateExecution) {
-        try {
-            BpmnModelElementInstance bpmnModelInstance = delegateExecution.getBpmnModelElementInstance();
-            SequenceFlowImpl sequenceFlowImpl = bpmnModelInstance
-                    .getModelInstance()
-                    .getModelElementById(delegateExecution.getCurrentTransitionId());
-            ExtensionElements extensionElements = sequenceFlowImpl.getExtensionElements();
-
-            Collection<CamundaProperty> sequenceFlowProperties = extensionElements.getElementsQuery()
-                    .filterByType(CamundaProperties.class).singleResult().getCamundaProperties();
-
-            for (CamundaProperty property : sequenceFlowProperties) {
-                if (property.getAttributeValue("name").equals("status")) {
-                    delegateExecution.setVariable("status", property.getCamundaValue());
-                }
-                if (property.getAttributeValue("name").equals("publicStatus")) {
-                    delegateExecution.setVariable("publicStatus", property.getCamundaValue());
-                }
-            }
-        } catch (Exception e) {
-            // if no status set in workflow, currently the status would just remain the same
-            log.warn("No status set for SequenceFlow in Camunda workflow");
+        if (status != null) {
+            delegateExecution.setVariable("status", status);
+            WorkflowStatusCapture.recordStatus(status);
+        }
+        if (publicStatus != null) {
+            delegateExecution.setVariable("publicStatus", publicStatus);
         }
     }
-}
\ No newline at end of file
+}
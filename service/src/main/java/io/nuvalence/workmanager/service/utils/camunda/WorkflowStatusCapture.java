@@ -0,0 +1,68 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import java.util.Optional;
+
+/**
+ * Captures the status set by {@link SequenceFlowExecutionListener} while a workflow command runs on the current
+ * thread, so that the caller can read it back without querying process variables or history.
+ *
+ * <p>
+ * Camunda executes commands such as completing a task synchronously on the calling thread, up to the next wait state
+ * or asynchronous continuation. Sequence flows taken after an asynchronous continuation run on a job executor thread
+ * and are not captured.
+ * </p>
+ */
+public final class WorkflowStatusCapture implements AutoCloseable {
+    private static final ThreadLocal<WorkflowStatusCapture> CURRENT = new ThreadLocal<>();
+
+    private final WorkflowStatusCapture previous;
+    private String status;
+
+    private WorkflowStatusCapture(final WorkflowStatusCapture previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Starts capturing statuses set on the current thread. The capture must be closed, typically with
+     * try-with-resources, once the workflow command has returned.
+     *
+     * @return new capture
+     */
+    public static WorkflowStatusCapture start() {
+        final WorkflowStatusCapture capture = new WorkflowStatusCapture(CURRENT.get());
+        CURRENT.set(capture);
+
+        return capture;
+    }
+
+    /**
+     * Records a status set by a sequence flow, if a capture is active on the current thread. When several sequence
+     * flows set a status during a command, the last one is kept.
+     *
+     * @param status status set by the sequence flow
+     */
+    public static void recordStatus(final String status) {
+        final WorkflowStatusCapture capture = CURRENT.get();
+        if (capture != null) {
+            capture.status = status;
+        }
+    }
+
+    /**
+     * Gets the last status recorded while this capture was active.
+     *
+     * @return status, or empty if no sequence flow set a status
+     */
+    public Optional<String> getStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
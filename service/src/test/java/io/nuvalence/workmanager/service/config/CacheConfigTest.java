@@ -0,0 +1,131 @@
+package io.nuvalence.workmanager.service.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.SchemaRow;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.mapper.SchemaMapper;
+import io.nuvalence.workmanager.service.repository.SchemaRepository;
+import io.nuvalence.workmanager.service.repository.TransactionDefinitionRepository;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {CacheConfig.class, SchemaService.class, TransactionDefinitionService.class})
+class CacheConfigTest {
+    @MockBean
+    private SchemaRepository schemaRepository;
+
+    @MockBean
+    private TransactionDefinitionRepository transactionDefinitionRepository;
+
+    @Autowired
+    private SchemaService schemaService;
+
+    @Autowired
+    private TransactionDefinitionService transactionDefinitionService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Schema schema;
+
+    @BeforeEach
+    void setup() throws JsonProcessingException {
+        cacheManager.getCache(CacheConfig.SCHEMA_CACHE).clear();
+        cacheManager.getCache(CacheConfig.TRANSACTION_DEFINITION_CATEGORY_CACHE).clear();
+        schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final SchemaRow row = SchemaMapper.INSTANCE.schemaToSchemaRow(schema);
+        Mockito.when(schemaRepository.findById(schema.getName())).thenReturn(Optional.of(row));
+    }
+
+    @Test
+    void getSchemaByNameIsServedFromCacheAfterFirstLoad() {
+        // Act
+        schemaService.getSchemaByName(schema.getName());
+        final Optional<Schema> result = schemaService.getSchemaByName(schema.getName());
+
+        // Assert
+        assertEquals(Optional.of(schema), result);
+        Mockito.verify(schemaRepository, Mockito.times(1)).findById(schema.getName());
+    }
+
+    @Test
+    void saveSchemaEvictsCachedSchema() {
+        // Arrange
+        schemaService.getSchemaByName(schema.getName());
+
+        // Act
+        schemaService.saveSchema(schema);
+        schemaService.getSchemaByName(schema.getName());
+
+        // Assert
+        Mockito.verify(schemaRepository, Mockito.times(2)).findById(schema.getName());
+    }
+
+    @Test
+    void missingSchemasAreNotCached() {
+        // Arrange
+        Mockito.when(schemaRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // Act
+        schemaService.getSchemaByName("missing");
+        schemaService.getSchemaByName("missing");
+
+        // Assert
+        Mockito.verify(schemaRepository, Mockito.times(2)).findById("missing");
+    }
+
+    @Test
+    void getCategoryByKeyIsServedFromCacheAfterFirstLoad() {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder()
+                .key("key")
+                .category("licensing")
+                .build();
+        Mockito.when(transactionDefinitionRepository.searchByKey("key")).thenReturn(List.of(definition));
+
+        // Act
+        transactionDefinitionService.getCategoryByKey("key");
+        final String result = transactionDefinitionService.getCategoryByKey("key");
+
+        // Assert
+        assertEquals("licensing", result);
+        Mockito.verify(transactionDefinitionRepository, Mockito.times(1)).searchByKey("key");
+    }
+
+    @Test
+    void saveTransactionDefinitionEvictsCachedCategory() {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder()
+                .key("key")
+                .category("licensing")
+                .build();
+        Mockito.when(transactionDefinitionRepository.searchByKey("key")).thenReturn(List.of(definition));
+        transactionDefinitionService.getCategoryByKey("key");
+
+        // Act
+        transactionDefinitionService.saveTransactionDefinition(definition);
+        transactionDefinitionService.getCategoryByKey("key");
+
+        // Assert
+        Mockito.verify(transactionDefinitionRepository, Mockito.times(2)).searchByKey("key");
+    }
+}
@@ -0,0 +1,48 @@
+package io.nuvalence.workmanager.service.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserManagementHttpConfigTest {
+    private final UserManagementHttpConfig config = new UserManagementHttpConfig();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void connectionManagerAppliesPoolLimitsAndPublishesPoolMetrics() {
+        // Act
+        final PoolingHttpClientConnectionManager connectionManager =
+                config.userManagementConnectionManager(40, 10, 2000, meterRegistry);
+
+        // Assert
+        assertEquals(40, connectionManager.getMaxTotal());
+        assertEquals(10, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(40.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", UserManagementHttpConfig.POOL_NAME).gauge().value());
+        connectionManager.close();
+    }
+
+    @Test
+    void circuitBreakerPublishesCallMetrics() {
+        // Arrange
+        final CircuitBreaker circuitBreaker = config.userManagementCircuitBreaker(50, 20, 10, 30, meterRegistry);
+
+        // Act
+        circuitBreaker.executeSupplier(() -> "ok");
+
+        // Assert
+        assertEquals(UserManagementHttpConfig.CIRCUIT_BREAKER_NAME, circuitBreaker.getName());
+        assertEquals(1, meterRegistry.get("resilience4j.circuitbreaker.calls")
+                .tag("name", UserManagementHttpConfig.CIRCUIT_BREAKER_NAME).tag("kind", "successful").timer().count());
+    }
+}
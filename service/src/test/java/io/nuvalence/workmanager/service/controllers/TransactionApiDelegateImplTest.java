@@ -8,14 +8,21 @@ import io.nuvalence.workmanager.service.domain.transaction.MissingEntityExceptio
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.generated.models.TransactionBatchCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.generated.models.TransactionCreationRequest;
 import io.nuvalence.workmanager.service.generated.models.TransactionUpdateRequest;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
 import io.nuvalence.workmanager.service.mapper.OffsetDateTimeMapper;
+import io.nuvalence.workmanager.service.models.InvalidCursorException;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
+import io.nuvalence.workmanager.service.models.TransactionCursorPage;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.service.EntityService;
+import io.nuvalence.workmanager.service.service.TransactionBatchService;
 import io.nuvalence.workmanager.service.service.TransactionDefinitionService;
+import io.nuvalence.workmanager.service.service.TransactionEventService;
 import io.nuvalence.workmanager.service.service.TransactionService;
 import io.nuvalence.workmanager.service.usermanagementapi.UserManagementClient;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
@@ -24,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -31,6 +39,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -38,21 +47,35 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.hamcrest.Matchers.comparesEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -74,6 +97,12 @@ class TransactionApiDelegateImplTest {
     @MockBean
     private TransactionDefinitionService transactionDefinitionService;
 
+    @MockBean
+    private TransactionBatchService transactionBatchService;
+
+    @Autowired
+    private TransactionEventService transactionEventService;
+
     @MockBean
     private WorkerToken workerToken;
 
@@ -159,9 +188,9 @@ class TransactionApiDelegateImplTest {
         Optional<User> testUser = createUser();
 
         Mockito
-                .when(userManagementClient.getUserById(ArgumentMatchers.anyString(),
+                .when(userManagementClient.getUsersByIds(ArgumentMatchers.anyCollection(),
                         ArgumentMatchers.anyString()))
-                .thenReturn(testUser);
+                .thenReturn(Map.of(testUser.get().getId().toString(), testUser));
 
         // Arrange
         final Transaction userTransaction1 = Transaction.builder()
@@ -250,6 +279,54 @@ class TransactionApiDelegateImplTest {
                 .andExpect(jsonPath("$.totalCount", comparesEqualTo(1)));
     }
 
+    @Test
+    void getFilteredTransactionsWithCursor() throws Exception {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionId(UUID.randomUUID())
+                .transactionDefinitionKey("dummy")
+                .processInstanceId("Dummy user test")
+                .entityId(UUID.randomUUID())
+                .status("low")
+                .createdBy("Dummy user")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+        Mockito
+                .when(entityService.getEntityById(any()))
+                .thenReturn(Optional.of(new Entity(Schema.builder().build())));
+        transaction.loadEntity(entityService);
+
+        Mockito
+                .when(transactionService.getFilteredTransactionsAfterCursor(any()))
+                .thenReturn(new TransactionCursorPage(List.of(transaction), "next", null));
+
+        // Act and Assert
+        mockMvc.perform(get("/transaction/search?paginationMode=cursor&cursor=previous&includeTotal=false"
+                        + "&pageSize=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalCount").doesNotExist());
+
+        verify(transactionService).getFilteredTransactionsAfterCursor(ArgumentMatchers.argThat(filters ->
+                "previous".equals(filters.getCursor()) && Boolean.FALSE.equals(filters.getIncludeTotal())));
+        verify(transactionService, never()).getFilteredTransactions(any());
+    }
+
+    @Test
+    void getFilteredTransactionsWithInvalidCursor() throws Exception {
+        // Arrange
+        Mockito
+                .when(transactionService.getFilteredTransactionsAfterCursor(any()))
+                .thenThrow(new InvalidCursorException("Malformed cursor."));
+
+        // Act and Assert
+        mockMvc.perform(get("/transaction/search?paginationMode=cursor&cursor=garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getTransactionsByUser()  throws Exception {
         Mockito
@@ -259,9 +336,9 @@ class TransactionApiDelegateImplTest {
         Optional<User> testUser = createUser();
 
         Mockito
-                .when(userManagementClient.getUserById(ArgumentMatchers.anyString(),
+                .when(userManagementClient.getUsersByIds(ArgumentMatchers.anyCollection(),
                         ArgumentMatchers.anyString()))
-                .thenReturn(testUser);
+                .thenReturn(Map.of(testUser.get().getId().toString(), testUser));
 
         Mockito
                 .when(userManagementClient.getUserByEmail(ArgumentMatchers.anyString(),
@@ -309,9 +386,13 @@ class TransactionApiDelegateImplTest {
 
         // Act and Assert
         mockMvc.perform(get("/transaction/user/all"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].createdByDisplayName").value(testUser.get().getDisplayName()))
+                .andExpect(jsonPath("$[1].createdByDisplayName").value(testUser.get().getDisplayName()));
 
         verify(userManagementClient, times(1))
+                .getUsersByIds(ArgumentMatchers.anyCollection(), anyString());
+        verify(userManagementClient, never())
                 .getUserById(anyString(), anyString());
     }
 
@@ -343,9 +424,9 @@ class TransactionApiDelegateImplTest {
         Optional<User> testUser = createUser();
 
         Mockito
-                .when(userManagementClient.getUserById(ArgumentMatchers.anyString(),
+                .when(userManagementClient.getUsersByIds(ArgumentMatchers.anyCollection(),
                         ArgumentMatchers.anyString()))
-                .thenReturn(testUser);
+                .thenReturn(Map.of(testUser.get().getId().toString(), testUser));
 
         // Arrange
         final Transaction transaction1 = Transaction.builder()
@@ -528,6 +609,72 @@ class TransactionApiDelegateImplTest {
                 .andExpect(status().isFailedDependency());
     }
 
+    @Test
+    void postTransactionBatchReturnsResultPerRequestInOrder() throws Exception {
+        // Arrange
+        final TransactionDefinition transactionDefinition = TransactionDefinition.builder()
+                .id(UUID.randomUUID())
+                .key("key")
+                .processDefinitionKey("key")
+                .build();
+        Mockito
+                .when(transactionDefinitionService.getTransactionDefinitionByKey("key"))
+                .thenReturn(Optional.of(transactionDefinition));
+        Mockito
+                .when(transactionDefinitionService.getTransactionDefinitionByKey("missing"))
+                .thenReturn(Optional.empty());
+
+        final UUID transactionId = UUID.randomUUID();
+        Mockito
+                .when(transactionBatchService.createTransactions(transactionDefinition, 2))
+                .thenReturn(List.of(TransactionCreationResult.created(transactionId),
+                        TransactionCreationResult.failed("process failed to start")));
+
+        final TransactionBatchCreationRequest request = new TransactionBatchCreationRequest().transactions(List.of(
+                new TransactionCreationRequest().transactionDefinitionKey("key"),
+                new TransactionCreationRequest().transactionDefinitionKey("missing"),
+                new TransactionCreationRequest().transactionDefinitionKey("key")));
+        final String postBody = new ObjectMapper().writeValueAsString(request);
+
+        // Act and Assert
+        mockMvc.perform(
+                post("/transaction/batch")
+                        .header("Authorization", "token")
+                        .content(postBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[0].id").value(transactionId.toString()))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].created").value(false))
+                .andExpect(jsonPath("$.results[1].error")
+                        .value("Transaction references non-existent definition with Key: missing"))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].created").value(false))
+                .andExpect(jsonPath("$.results[2].error").value("process failed to start"));
+    }
+
+    @Test
+    void postTransactionBatchRejectsOversizedBatches() throws Exception {
+        // Arrange
+        final TransactionBatchCreationRequest request = new TransactionBatchCreationRequest().transactions(
+                Collections.nCopies(1001, new TransactionCreationRequest().transactionDefinitionKey("key")));
+        final String postBody = new ObjectMapper().writeValueAsString(request);
+
+        // Act and Assert
+        mockMvc.perform(
+                post("/transaction/batch")
+                        .header("Authorization", "token")
+                        .content(postBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isPayloadTooLarge());
+        Mockito.verifyNoInteractions(transactionBatchService);
+    }
+
     @Test
     void updateTransactionWithoutTaskId() throws Exception {
         Optional<User> testUser = createUser();
@@ -639,6 +786,9 @@ class TransactionApiDelegateImplTest {
         transaction.loadEntity(entityService);
         Mockito.when(transactionService.getTransactionById(transaction.getId())).thenReturn(Optional.of(transaction));
         Mockito.when(transactionService.updateTransaction(transaction)).thenReturn(transaction);
+        final Transaction completed = transaction.toBuilder().status("submitted").build();
+        completed.copyTransientState(transaction);
+        Mockito.when(transactionService.completeTask(transaction, "taskId", "foo")).thenReturn(completed);
 
         final TransactionUpdateRequest request = new TransactionUpdateRequest().putDataItem("foo", "bar");
         request.setCondition("foo");
@@ -653,8 +803,8 @@ class TransactionApiDelegateImplTest {
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(transaction.getId().toString()))
+                .andExpect(jsonPath("$.status").value("submitted"))
                 .andExpect(jsonPath("$.data.foo").value("bar"));
-        Mockito.verify(transactionService).completeTask(transaction, "taskId", "foo");
     }
 
     @Test
@@ -698,6 +848,73 @@ class TransactionApiDelegateImplTest {
                 .andExpect(status().isFailedDependency());
     }
 
+    @Test
+    void updateTransactionReturnsConflictWhenRequestVersionIsStale() throws Exception {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .status("incomplete")
+                .createdBy("Dummy user")
+                .build();
+        Mockito
+                .when(entityService.getEntityById(transaction.getEntityId()))
+                .thenReturn(Optional.of(new Entity(Schema.builder().property("foo", String.class).build())));
+        transaction.loadEntity(entityService);
+        Mockito.when(transactionService.getTransactionById(transaction.getId())).thenReturn(Optional.of(transaction));
+
+        final TransactionUpdateRequest request = new TransactionUpdateRequest().putDataItem("foo", "bar");
+        request.setVersion(3L);
+        final String postBody = new ObjectMapper().writeValueAsString(request);
+
+        // Act and Assert
+        mockMvc.perform(
+                        post("/transaction/" + transaction.getId().toString())
+                                .content(postBody)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.id").value(transaction.getId().toString()))
+                .andExpect(jsonPath("$.version").value(0));
+        Mockito.verify(transactionService, Mockito.never()).updateTransaction(ArgumentMatchers.any());
+    }
+
+    @Test
+    void updateTransactionReturnsConflictWithCurrentTransactionWhenChangedConcurrently() throws Exception {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .status("incomplete")
+                .createdBy("Dummy user")
+                .build();
+        final Transaction current = transaction.toBuilder().status("reviewed").build();
+        Mockito
+                .when(entityService.getEntityById(transaction.getEntityId()))
+                .thenReturn(Optional.of(new Entity(Schema.builder().property("foo", String.class).build())));
+        transaction.loadEntity(entityService);
+        current.loadEntity(entityService);
+        Mockito.when(transactionService.getTransactionById(transaction.getId()))
+                .thenReturn(Optional.of(transaction))
+                .thenReturn(Optional.of(current));
+        Mockito.when(transactionService.updateTransaction(transaction))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Transaction.class, transaction.getId()));
+
+        final TransactionUpdateRequest request = new TransactionUpdateRequest().putDataItem("foo", "bar");
+        final String postBody = new ObjectMapper().writeValueAsString(request);
+
+        // Act and Assert
+        mockMvc.perform(
+                        post("/transaction/" + transaction.getId().toString() + "/?taskId=taskId")
+                                .content(postBody)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("reviewed"));
+        Mockito.verify(transactionService, Mockito.never())
+                .completeTask(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
     @Test
     void getTransactionCountByStatus() throws Exception {
         // Arrange
@@ -733,9 +950,178 @@ class TransactionApiDelegateImplTest {
                 .andExpect(jsonPath("$[0].count", comparesEqualTo(123)));
     }
 
+    @Test
+    void exportTransactionsStreamsEachChunkAsNdjson() throws Exception {
+        // Arrange
+        final Transaction first = createExportTransaction("first");
+        final Transaction second = createExportTransaction("second");
+        Mockito.doAnswer(exportInChunks(List.of(List.of(first), List.of(second))))
+                .when(transactionService).exportTransactions(any(), any(), any());
+
+        // Act
+        final MvcResult result = mockMvc.perform(get("/transaction/export?transactionDefinitionKey=dummy"
+                        + "&sortCol=priority&sortDir=asc"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.ndjson\""));
+        final String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(first.getId().toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("second", objectMapper.readTree(lines[1]).get("status").asText());
+        verify(transactionService).exportTransactions(ArgumentMatchers.argThat(filters ->
+                "dummy".equals(filters.getTransactionDefinitionKey()) && "priority".equals(filters.getSortCol())),
+                any(), any());
+    }
+
+    @Test
+    void exportTransactionsStreamsCsvWithHeader() throws Exception {
+        // Arrange
+        final Transaction transaction = createExportTransaction("in \"review\", again");
+        Mockito.doAnswer(exportInChunks(List.of(List.of(transaction))))
+                .when(transactionService).exportTransactions(any(), any(), any());
+
+        // Act
+        final MvcResult result = mockMvc.perform(get("/transaction/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"));
+        final String[] lines = result.getResponse().getContentAsString().split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,transactionDefinitionId,transactionDefinitionKey,"));
+        assertTrue(lines[1].startsWith(transaction.getId().toString() + ","));
+        assertTrue(lines[1].contains(",\"in \"\"review\"\", again\","));
+    }
+
+    @Test
+    void exportTransactionsStreamsCsvHeaderWhenNothingMatches() throws Exception {
+        // Arrange
+        Mockito.doAnswer(exportInChunks(List.of()))
+                .when(transactionService).exportTransactions(any(), any(), any());
+
+        // Act
+        final MvcResult result = mockMvc.perform(get("/transaction/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"));
+        final String content = result.getResponse().getContentAsString();
+        assertTrue(content.startsWith("id,transactionDefinitionId,transactionDefinitionKey,"), content);
+        assertTrue(content.endsWith(",version,data\r\n"), content);
+        assertEquals(1, content.split("\r\n").length);
+    }
+
+    @Test
+    void exportTransactionsRejectsUnknownFormat() throws Exception {
+        // Act and Assert
+        mockMvc.perform(get("/transaction/export?format=xlsx"))
+                .andExpect(status().isBadRequest());
+        verify(transactionService, never()).exportTransactions(any(), any(), any());
+    }
+
+    @Test
+    void exportTransactionsSendsLastRowWithinExportTimeout() throws Exception {
+        // Arrange
+        final List<List<Transaction>> chunks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            chunks.add(List.of(createExportTransaction("status-" + i)));
+        }
+        Mockito.doAnswer(exportInChunks(chunks))
+                .when(transactionService).exportTransactions(any(), any(), any());
+
+        // Act
+        final MvcResult result = mockMvc.perform(get("/transaction/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        // the export runs for spring.mvc.async.request-timeout rather than the container's default of 30 seconds
+        assertEquals(Duration.ofHours(1).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        final String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(5, lines.length);
+        assertEquals(chunks.get(4).get(0).getId().toString(),
+                new ObjectMapper().readTree(lines[4]).get("id").asText());
+    }
+
+    @Test
+    void getTransactionEventsStreamsMatchingEvents() throws Exception {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionKey("events-test")
+                .status("new")
+                .build();
+        final MvcResult result = mockMvc.perform(get("/transaction/events?transactionDefinitionKey=events-test"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        transactionEventService.onTransactionEvent(
+                TransactionEvent.created(transaction, TransactionDefinition.builder().build()));
+        transactionEventService.onTransactionEvent(TransactionEvent.created(
+                Transaction.builder().id(UUID.randomUUID()).transactionDefinitionKey("other").build(),
+                TransactionDefinition.builder().build()));
+
+        // Assert
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!result.getResponse().getContentAsString().contains("data:")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        final String content = result.getResponse().getContentAsString();
+        assertTrue(content.startsWith("event:created\ndata:{"), content);
+        assertTrue(content.contains("\"transactionId\":\"" + transaction.getId() + "\""), content);
+        assertFalse(content.contains("\"other\""), content);
+        assertTrue(result.getResponse().getContentType().startsWith("text/event-stream"));
+    }
+
+    private static Answer<Void> exportInChunks(List<List<Transaction>> chunks) {
+        return invocation -> {
+            final Function<List<Transaction>, Object> rowMapper = invocation.getArgument(1);
+            final Consumer<Object> consumer = invocation.getArgument(2);
+            chunks.forEach(chunk -> consumer.accept(rowMapper.apply(chunk)));
+            return null;
+        };
+    }
+
+    private Transaction createExportTransaction(String status) throws MissingEntityException {
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionId(UUID.randomUUID())
+                .transactionDefinitionKey("dummy")
+                .processInstanceId("Dummy user test")
+                .entityId(UUID.randomUUID())
+                .status(status)
+                .createdBy("Dummy user")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+        Mockito
+                .when(entityService.getEntityById(transaction.getEntityId()))
+                .thenReturn(Optional.of(new Entity(Schema.builder().build())));
+        transaction.loadEntity(entityService);
+
+        return transaction;
+    }
+
     private Optional<User> createUser() {
         return Optional.ofNullable(User.builder()
                 .email("someEmail@something.com")
+                .displayName("Some User")
                 .id(UUID.randomUUID())
                 .build());
     }
@@ -1,6 +1,5 @@
 package io.nuvalence.workmanager.service.delegates;
 
-import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.service.TransactionService;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.junit.jupiter.api.Test;
@@ -9,8 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,55 +23,46 @@ class DetermineDistrictDelegateTest {
     private DetermineDistrictDelegate delegate;
 
     @Test
-    public void executeIsValidWithValidTransaction() throws Exception {
+    public void executeUpdatesDistrictWithoutLoadingTransaction() throws Exception {
         // Arrange
-        final Transaction transaction = Transaction.builder()
-                .district("DISTRICT8")
-                .build();
         DelegateExecution execution = mock(DelegateExecution.class);
-        when(service.getTransactionByProcessInstanceId(transaction.getProcessInstanceId()))
-                .thenReturn(Optional.of(transaction));
+        when(execution.getProcessInstanceId()).thenReturn("process-1");
         when(execution.getVariable("district")).thenReturn("DISTRICT1");
+        when(service.updateDistrictByProcessInstanceId("process-1", "DISTRICT1")).thenReturn(true);
 
         // Act
         delegate.execute(execution);
 
         // Assert
-        verify(service).updateTransaction(transaction);
+        verify(service).updateDistrictByProcessInstanceId("process-1", "DISTRICT1");
+        verify(service, never()).getTransactionByProcessInstanceId(any());
+        verify(service, never()).updateTransaction(any());
     }
 
     @Test
-    public void executeDoesNotUpdateIfTransactionIsNotFound() throws Exception {
+    public void executeConvertsDistrictVariableToString() throws Exception {
         // Arrange
-        final Transaction transaction = Transaction.builder()
-                .district("DISTRICT8")
-                .build();
         DelegateExecution execution = mock(DelegateExecution.class);
-        when(service.getTransactionByProcessInstanceId(transaction.getProcessInstanceId()))
-                .thenReturn(Optional.empty());
+        when(execution.getProcessInstanceId()).thenReturn("process-1");
+        when(execution.getVariable("district")).thenReturn(8);
 
         // Act
         delegate.execute(execution);
 
         // Assert
-        verify(service, never()).updateTransaction(transaction);
+        verify(service).updateDistrictByProcessInstanceId("process-1", "8");
     }
 
     @Test
-    public void executeDidNotUpdateIfDistrictIsSame() throws Exception {
+    public void executeClearsDistrictWhenVariableIsMissing() throws Exception {
         // Arrange
-        final Transaction transaction = Transaction.builder()
-                .district("DISTRICT1")
-                .build();
         DelegateExecution execution = mock(DelegateExecution.class);
-        when(service.getTransactionByProcessInstanceId(transaction.getProcessInstanceId()))
-                .thenReturn(Optional.of(transaction));
-        when(execution.getVariable("district")).thenReturn("DISTRICT1");
+        when(execution.getProcessInstanceId()).thenReturn("process-1");
 
         // Act
         delegate.execute(execution);
 
         // Assert
-        verify(service, never()).updateTransaction(transaction);
+        verify(service).updateDistrictByProcessInstanceId("process-1", null);
     }
 }
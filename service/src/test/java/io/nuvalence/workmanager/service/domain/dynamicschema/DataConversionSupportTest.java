@@ -149,4 +149,42 @@ class DataConversionSupportTest {
             () -> DataConversionSupport.convert("", DataConversionSupportTest.class)
         );
     }
+
+    @Test
+    void convertsWithRegisteredConverterAfterFailedLookup() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> DataConversionSupport.convert(42L, Temperature.class)
+        );
+
+        DataConversionSupport.register(Long.class, Temperature.class, Temperature::new);
+
+        assertEquals(42L, DataConversionSupport.convert(42L, Temperature.class).degrees);
+        assertEquals(43L, DataConversionSupport.convert(43L, Temperature.class).degrees);
+    }
+
+    @Test
+    void convertStringToRegisteredEnum() {
+        DataConversionSupport.registerEnum(Season.class);
+
+        assertEquals(Season.WINTER, DataConversionSupport.convert("WINTER", Season.class));
+        assertNull(DataConversionSupport.convert("", Season.class));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DataConversionSupport.convert("MONSOON", Season.class)
+        );
+    }
+
+    private enum Season {
+        SUMMER,
+        WINTER
+    }
+
+    private static final class Temperature {
+        private final long degrees;
+
+        private Temperature(final Long degrees) {
+            this.degrees = degrees;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package io.nuvalence.workmanager.service.domain.dynamicschema;
+
+import org.apache.commons.beanutils.BasicDynaBean;
+import org.apache.commons.beanutils.BasicDynaClass;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityAttributesTest {
+    private Schema schema;
+    private DynaBean attributes;
+
+    @BeforeEach
+    void setup() {
+        schema = Schema.builder()
+                .name("Sample")
+                .property("name", String.class)
+                .property("count", int.class)
+                .property("tags", List.class, String.class)
+                .property("labels", HashMap.class)
+                .build();
+        attributes = schema.newInstance();
+    }
+
+    @Test
+    void storesValuesByOrdinal() {
+        // Arrange
+        attributes.set("name", "sample");
+
+        // Act & Assert
+        assertTrue(attributes instanceof EntityAttributes);
+        assertSame(schema, attributes.getDynaClass());
+        assertEquals("sample", attributes.get("name"));
+        assertEquals("sample", ((EntityAttributes) attributes).get(schema.getOrdinal("name")));
+        assertEquals(-1, schema.getOrdinal("unknown"));
+    }
+
+    @Test
+    void returnsDefaultsForUnsetValues() {
+        assertNull(attributes.get("name"));
+        assertEquals(0, attributes.get("count"));
+    }
+
+    @Test
+    void supportsIndexedAndMappedValues() {
+        // Arrange
+        attributes.set("tags", new ArrayList<>(List.of("a", "b")));
+        attributes.set("labels", new HashMap<>());
+
+        // Act
+        attributes.set("tags", 1, "c");
+        attributes.set("labels", "color", "red");
+
+        // Assert
+        assertEquals("c", attributes.get("tags", 1));
+        assertEquals("red", attributes.get("labels", "color"));
+        assertTrue(attributes.contains("labels", "color"));
+        attributes.remove("labels", "color");
+        assertFalse(attributes.contains("labels", "color"));
+    }
+
+    @Test
+    void rejectsInvalidAccessLikeBasicDynaBean() throws Exception {
+        // Arrange
+        final BasicDynaBean basic = new BasicDynaBean(
+                new BasicDynaClass("Sample", null, schema.getDynaProperties().clone()));
+        final List<DynaBean> beans = List.of(basic, attributes);
+
+        // Act & Assert
+        for (DynaBean bean : beans) {
+            assertThrows(IllegalArgumentException.class, () -> bean.get("unknown"));
+            assertThrows(IllegalArgumentException.class, () -> bean.set("unknown", "value"));
+            assertThrows(ConversionException.class, () -> bean.set("name", 42));
+            assertThrows(NullPointerException.class, () -> bean.set("count", null));
+            assertThrows(NullPointerException.class, () -> bean.get("tags", 0));
+            assertThrows(IllegalArgumentException.class, () -> bean.get("name", 0));
+            assertThrows(NullPointerException.class, () -> bean.get("labels", "key"));
+            bean.set("count", 7);
+            assertEquals(7, bean.get("count"));
+        }
+    }
+
+    @Test
+    void ignoresDuplicatePropertyDefinitions() {
+        // Arrange
+        final Schema duplicated = new Schema("Duplicated",
+                List.of(new DynaProperty("name", String.class), new DynaProperty("name", String.class)),
+                new HashMap<>(), new HashMap<>());
+
+        // Act & Assert
+        assertEquals(0, duplicated.getOrdinal("name"));
+    }
+}
@@ -1,5 +1,6 @@
 package io.nuvalence.workmanager.service.domain.dynamicschema;
 
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.ConstraintViolation;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.LengthConstraint;
 import io.nuvalence.workmanager.service.domain.dynamicschema.validation.NotBlankConstraint;
@@ -14,9 +15,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -63,6 +68,90 @@ class EntityTest {
         contact.add("emails", emailAddress1);
     }
 
+    @Test
+    void newEntityIsClean() {
+        assertFalse(new Entity(contactSchema).isDirty());
+    }
+
+    @Test
+    void settingDifferentValueMakesEntityDirty() {
+        // Arrange
+        contact.markClean();
+
+        // Act
+        contact.set("name", "Neo");
+
+        // Assert
+        assertTrue(contact.isDirty());
+    }
+
+    @Test
+    void settingEqualValueKeepsEntityClean() {
+        // Arrange
+        final Entity address = new Entity(addressSchema);
+        address.set("line1", "123 Street St");
+        address.set("city", "New York");
+        address.set("state", "NY");
+        address.set("postalCode", "11111");
+        contact.markClean();
+
+        // Act
+        contact.set("name", "Thomas A. Anderson");
+        contact.set("address", address);
+
+        // Assert
+        assertFalse(contact.isDirty());
+        assertNotSame(address, contact.get("address"));
+    }
+
+    @Test
+    void changingNestedEntityMakesParentDirty() {
+        // Arrange
+        contact.markClean();
+
+        // Act
+        contact.getProperty("emails[0]", Entity.class).set("type", "home");
+
+        // Assert
+        assertTrue(contact.isDirty());
+    }
+
+    @Test
+    void addingToListMakesEntityDirty() {
+        // Arrange
+        contact.markClean();
+
+        // Act
+        contact.add("emails", new Entity(emailAddressSchema));
+
+        // Assert
+        assertTrue(contact.isDirty());
+    }
+
+    @Test
+    void dirtyAttributesIncludeAttributesHoldingChangedNestedEntities() {
+        // Arrange
+        contact.markClean();
+
+        // Act
+        contact.set("name", "Neo");
+        contact.getProperty("address", Entity.class).set("city", "Zion");
+
+        // Assert
+        assertEquals(Set.of("name", "address"), contact.getDirtyAttributes());
+    }
+
+    @Test
+    void markCleanClearsNestedEntities() {
+        // Act
+        contact.markClean();
+
+        // Assert
+        assertFalse(contact.isDirty());
+        assertFalse(contact.getProperty("address", Entity.class).isDirty());
+        assertFalse(contact.getProperty("emails[0]", Entity.class).isDirty());
+    }
+
     @Test
     void canRetrievePropertyValuesByElPath() {
         assertEquals("Thomas A. Anderson", contact.getProperty("name", String.class));
@@ -70,6 +159,57 @@ class EntityTest {
         assertEquals("tanderson@nuvalence.io", contact.getProperty("emails[0].email", String.class));
     }
 
+    @Test
+    void canRetrievePropertyValuesByElPathRepeatedly() {
+        // Arrange
+        final Entity otherContact = new Entity(contactSchema);
+        final Entity otherEmail = new Entity(emailAddressSchema);
+        otherEmail.set("email", "neo@nuvalence.io");
+        otherContact.add("emails", otherEmail);
+
+        // Act & Assert
+        assertEquals("tanderson@nuvalence.io", contact.getProperty("emails[0].email", String.class));
+        assertEquals("neo@nuvalence.io", otherContact.getProperty("emails[0].email", String.class));
+        assertEquals("tanderson@nuvalence.io", contact.getProperty("emails[0].email", String.class));
+    }
+
+    @Test
+    void canRetrievePropertyValuesOfNonEntityAttributesByElPath() {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("Application")
+                .property("document", Document.class)
+                .build();
+        final Entity application = new Entity(schema);
+        application.set("document", Document.builder().fileName("passport.png").build());
+
+        // Act & Assert
+        assertEquals("passport.png", application.getProperty("document.fileName", String.class));
+    }
+
+    @Test
+    void returnsNullWhenLastPropertyInPathIsNull() {
+        assertNull(contact.getProperty("address.line2", String.class));
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionWhenIntermediatePropertyInPathIsNull() {
+        // Arrange
+        contact.set("address", null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            contact.getProperty("address.city", String.class);
+        }, "IllegalArgumentException was expected");
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionWhenNestedPropertyPathIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            contact.getProperty("address.country", String.class);
+        }, "IllegalArgumentException was expected");
+    }
+
     @Test
     void throwsIllegalArgumentExceptionWhenAddIsCalledOnNonList() {
         assertThrows(IllegalArgumentException.class, () -> {
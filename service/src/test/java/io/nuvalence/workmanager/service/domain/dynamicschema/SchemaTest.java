@@ -35,6 +35,7 @@ class SchemaTest {
                                 ).toArray(new DynaProperty[0])
                         )
                 )
+                .withIgnoredFields("ordinals", "propertyPaths")
                 .verify();
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ class EntityRowTest {
     public void equalsHashcodeContract() {
         EqualsVerifier.forClass(EntityRow.class)
                 .usingGetClass()
+                .withIgnoredFields("version")
                 .verify();
     }
 }
\ No newline at end of file
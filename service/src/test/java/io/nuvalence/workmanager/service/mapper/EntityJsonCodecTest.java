@@ -0,0 +1,217 @@
+package io.nuvalence.workmanager.service.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Entity;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.Document;
+import io.nuvalence.workmanager.service.domain.dynamicschema.attributes.DocumentStatus;
+import io.nuvalence.workmanager.service.domain.dynamicschema.jpa.EntityRow;
+import io.nuvalence.workmanager.service.service.SchemaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityJsonCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+    private final UUID documentId = UUID.randomUUID();
+
+    private Schema applicationSchema;
+    private Schema addressSchema;
+    private SchemaService schemaService;
+    private EntityJsonCodec codec;
+    private EntityMapper entityMapper;
+
+    @BeforeEach
+    void setup() {
+        addressSchema = Schema.builder()
+                .name("Address")
+                .property("city", String.class)
+                .property("postalCode", String.class)
+                .build();
+        applicationSchema = Schema.builder()
+                .name("Application")
+                .property("name", String.class)
+                .property("age", Integer.class)
+                .property("income", BigDecimal.class)
+                .property("veteran", Boolean.class)
+                .property("birthDate", LocalDate.class)
+                .property("address", addressSchema)
+                .property("previousAddresses", List.class, addressSchema)
+                .property("nicknames", List.class, String.class)
+                .property("documentList", List.class, Document.class)
+                .build();
+
+        schemaService = Mockito.mock(SchemaService.class);
+        Mockito.lenient().when(schemaService.getSchemaByName("Address")).thenReturn(Optional.of(addressSchema));
+        codec = new EntityJsonCodec(objectMapper, name -> schemaService.getSchemaByName(name)
+                .orElseThrow(() -> new MissingSchemaException(name)));
+        entityMapper = Mappers.getMapper(EntityMapper.class);
+        entityMapper.setSchemaService(schemaService);
+    }
+
+    @Test
+    void readProducesSameEntityAsMapBasedPath() throws Exception {
+        // Arrange
+        final String json = objectMapper.writeValueAsString(Map.of(
+                "name", "Thomas A. Anderson",
+                "age", "37",
+                "income", 52000.5,
+                "veteran", "yes",
+                "birthDate", "1962-03-11",
+                "address", Map.of("city", "New York", "postalCode", "11111", "unknown", List.of(1, 2)),
+                "previousAddresses", List.of(Map.of("city", "Chicago"), Map.of("city", "Boston")),
+                "nicknames", List.of("Neo"),
+                "unknown", Map.of("nested", List.of("ignored"))
+        ));
+
+        // Act
+        final Optional<Entity> streamed = codec.read(json, applicationSchema, UUID.randomUUID());
+
+        // Assert
+        assertTrue(streamed.isPresent());
+        assertEquals(readThroughMap(json, streamed.get().getId()), streamed.get());
+        assertEquals(new BigDecimal("52000.5"), streamed.get().get("income"));
+    }
+
+    @Test
+    void readConvertsDocuments() throws Exception {
+        // Arrange
+        final String json = objectMapper.writeValueAsString(Map.of(
+                "documentList", List.of(Map.of("documentId", documentId.toString(), "fileName", "id.png"))
+        ));
+
+        // Act
+        final Entity entity = codec.read(json, applicationSchema, null).orElseThrow();
+
+        // Assert
+        final Document document = entity.getProperty("documentList[0]", Document.class);
+        assertEquals(documentId, document.getDocumentId());
+        assertEquals("id.png", document.getFileName());
+        assertEquals(DocumentStatus.PENDING, document.getStatus());
+    }
+
+    @Test
+    void readIsUnsupportedForNullValues() throws Exception {
+        assertEquals(Optional.empty(), codec.read("{\"name\":null}", applicationSchema, null));
+        assertEquals(Optional.empty(), codec.read("{\"nicknames\":[null]}", applicationSchema, null));
+        assertEquals(Optional.empty(), codec.read("null", applicationSchema, null));
+        assertEquals(Optional.empty(), codec.read(null, applicationSchema, null));
+    }
+
+    @Test
+    void readIsUnsupportedForValuesOfTheWrongShape() throws Exception {
+        assertEquals(Optional.empty(), codec.read("{\"address\":\"New York\"}", applicationSchema, null));
+        assertEquals(Optional.empty(), codec.read("{\"nicknames\":\"Neo\"}", applicationSchema, null));
+    }
+
+    @Test
+    void readThrowsMissingSchemaExceptionWhenNestedSchemaDoesntExist() {
+        // Arrange
+        final Schema schema = Schema.builder().name("Orphan").property("address", Schema.builder()
+                .name("Missing")
+                .build()).build();
+
+        // Act and Assert
+        assertThrows(MissingSchemaException.class,
+                () -> codec.read("{\"address\":{\"city\":\"New York\"}}", schema, null));
+    }
+
+    @Test
+    void readThrowsJsonProcessingExceptionWhenJsonIsMalformed() {
+        assertThrows(JsonProcessingException.class, () -> codec.read("{\"name\":", applicationSchema, null));
+    }
+
+    @Test
+    void mapperFallsBackToMapBasedPathWhenListValuesConvertToNull() throws Exception {
+        // Arrange
+        final Schema schema = Schema.builder().name("Counts").property("counts", List.class, Integer.class).build();
+        Mockito.when(schemaService.getSchemaByName("Counts")).thenReturn(Optional.of(schema));
+        final String json = "{\"counts\":[\"1\",\"\"]}";
+
+        // Act
+        final Entity entity = entityMapper.entityRowToEntity(EntityRow.builder()
+                .schema("Counts")
+                .entityJson(json)
+                .build());
+
+        // Assert
+        assertEquals(Arrays.asList(1, null), entity.get("counts"));
+    }
+
+    @Test
+    void writeProducesSameJsonAsMapBasedPath() throws Exception {
+        // Arrange
+        final Entity address = new Entity(addressSchema);
+        address.set("city", "New York");
+        final Entity entity = new Entity(applicationSchema, UUID.randomUUID());
+        entity.set("name", "Thomas A. Anderson");
+        entity.set("age", 37);
+        entity.set("income", new BigDecimal("52000.50"));
+        entity.set("veteran", true);
+        entity.set("birthDate", LocalDate.of(1962, 3, 11));
+        entity.set("address", address);
+        entity.add("previousAddresses", address);
+        entity.add("nicknames", "Neo");
+        entity.add("documentList", Document.builder()
+                .documentId(documentId)
+                .fileName("id.png")
+                .status(DocumentStatus.PENDING)
+                .build());
+
+        // Act
+        final String json = codec.write(entity);
+
+        // Assert
+        assertEquals(
+                objectMapper.readTree(objectMapper.writeValueAsString(
+                        entityMapper.convertAttributesToGenericMap(entity))),
+                objectMapper.readTree(json)
+        );
+    }
+
+    @Test
+    void writeAttributesWritesOnlyNamedAttributesAndNulls() throws Exception {
+        // Arrange
+        final Entity address = new Entity(addressSchema);
+        address.set("city", "New York");
+        final Entity entity = new Entity(applicationSchema, UUID.randomUUID());
+        entity.set("name", "Thomas A. Anderson");
+        entity.set("address", address);
+
+        // Act
+        final String json = codec.writeAttributes(entity, List.of("address", "age"));
+
+        // Assert
+        assertEquals(
+                objectMapper.readTree("{\"address\": {\"city\": \"New York\"}, \"age\": null}"),
+                objectMapper.readTree(json)
+        );
+    }
+
+    private Entity readThroughMap(final String json, final UUID id) throws Exception {
+        final Entity entity = new Entity(applicationSchema, id);
+        entityMapper.applyMappedPropertiesToEntity(entity, objectMapper.readValue(json,
+                new TypeReference<Map<String, Object>>() {}));
+
+        return entity;
+    }
+}
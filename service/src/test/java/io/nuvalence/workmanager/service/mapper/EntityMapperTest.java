@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -154,6 +155,16 @@ class EntityMapperTest {
         assertEquals(entity, mapper.entityRowToEntity(row));
     }
 
+    @Test
+    void entityRowToEntityReturnsCleanEntity() throws JsonProcessingException, MissingSchemaException {
+        assertFalse(mapper.entityRowToEntity(row).isDirty());
+    }
+
+    @Test
+    void entityRowToEntityCopiesVersion() throws JsonProcessingException, MissingSchemaException {
+        assertEquals(7L, mapper.entityRowToEntity(row.toBuilder().version(7).build()).getVersion());
+    }
+
     @Test
     void entityRowToEntityThrowsMissingSchemaExceptionWhenSchemaDoesntExist() throws JsonProcessingException {
         // Arrange
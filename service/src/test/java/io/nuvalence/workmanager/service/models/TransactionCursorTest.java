@@ -0,0 +1,82 @@
+package io.nuvalence.workmanager.service.models;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"priority", "district", "status", "createdTimestamp", "lastUpdatedTimestamp", "id"})
+    void encodedCursorDecodesToSamePosition(String sortCol) throws InvalidCursorException {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .priority("high:urgent")
+                .status("new")
+                .createdTimestamp(OffsetDateTime.now())
+                .lastUpdatedTimestamp(OffsetDateTime.now())
+                .build();
+        final TransactionCursor cursor = TransactionCursor.after(transaction, sortCol, true);
+
+        // Act
+        final TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void nullSortValueIsKeptApartFromEmptyString() throws InvalidCursorException {
+        // Arrange
+        final Transaction withoutDistrict = Transaction.builder().id(UUID.randomUUID()).build();
+        final Transaction withEmptyDistrict = Transaction.builder().id(UUID.randomUUID()).district("").build();
+
+        // Act
+        final TransactionCursor nullCursor = TransactionCursor.decode(
+                TransactionCursor.after(withoutDistrict, "district", false).encode());
+        final TransactionCursor emptyCursor = TransactionCursor.decode(
+                TransactionCursor.after(withEmptyDistrict, "district", false).encode());
+
+        // Assert
+        assertNull(nullCursor.getValue());
+        assertEquals("", emptyCursor.getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "c3RhdHVz"})
+    void decodeRejectsMalformedCursors(String token) {
+        // Act and Assert
+        assertThrows(InvalidCursorException.class, () -> TransactionCursor.decode(token));
+    }
+
+    @Test
+    void decodeRejectsTimestampCursorsWithoutValue() {
+        // Arrange
+        final String token = Base64.getUrlEncoder().encodeToString(
+                ("createdTimestamp:true:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+        // Act and Assert
+        assertThrows(InvalidCursorException.class, () -> TransactionCursor.decode(token));
+    }
+
+    @Test
+    void decodeRejectsMalformedTimestamps() {
+        // Arrange
+        final String token = Base64.getUrlEncoder().encodeToString(
+                ("createdTimestamp:true:" + UUID.randomUUID() + ":yesterday").getBytes(StandardCharsets.UTF_8));
+
+        // Act and Assert
+        assertThrows(InvalidCursorException.class, () -> TransactionCursor.decode(token));
+    }
+}
@@ -0,0 +1,145 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionDistrictUpdateTest {
+    private static final String PROCESS_INSTANCE_ID = "district-update-test";
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.parse("2030-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    private TransactionTestFixture fixture;
+    private String transactionId;
+
+    @BeforeAll
+    void seed() {
+        fixture = new TransactionTestFixture(jdbcTemplate, "district-test");
+        fixture.create();
+        transactionId = fixture.insertTransaction(PROCESS_INSTANCE_ID, "new");
+    }
+
+    @BeforeEach
+    void resetDistrict() {
+        jdbcTemplate.update("UPDATE transaction SET district = NULL, status = 'new', priority = NULL, version = 0 "
+                + "WHERE id = ?", transactionId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @Test
+    void updateIssuesOneStatementWithoutLoadingTheTransaction() {
+        // Act
+        SqlStatementRecorder.start();
+        final Integer updated = transactionTemplate.execute(status ->
+                repository.updateDistrictByProcessInstanceId(PROCESS_INSTANCE_ID, "DISTRICT1", UPDATED_AT));
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(1, statements.size(), statements.toString());
+        assertTrue(statements.get(0).toLowerCase(Locale.ROOT).startsWith("update"), statements.get(0));
+        assertEquals("DISTRICT1", readDistrict());
+        assertEquals(1L, readVersion());
+        assertEquals(UPDATED_AT.toInstant(), jdbcTemplate.queryForObject(
+                "SELECT last_updated_timestamp FROM transaction WHERE id = ?", Timestamp.class, transactionId)
+                .toInstant());
+    }
+
+    @Test
+    void updateSkipsRowsAlreadyHoldingTheDistrict() {
+        // Arrange
+        jdbcTemplate.update("UPDATE transaction SET district = 'DISTRICT1' WHERE id = ?", transactionId);
+
+        // Act
+        final Integer updated = transactionTemplate.execute(status ->
+                repository.updateDistrictByProcessInstanceId(PROCESS_INSTANCE_ID, "DISTRICT1", UPDATED_AT));
+
+        // Assert
+        assertEquals(0, updated);
+        assertEquals(0L, readVersion());
+    }
+
+    @Test
+    void updateClearsDistrict() {
+        // Arrange
+        jdbcTemplate.update("UPDATE transaction SET district = 'DISTRICT1' WHERE id = ?", transactionId);
+
+        // Act
+        final Integer updated = transactionTemplate.execute(status ->
+                repository.updateDistrictByProcessInstanceId(PROCESS_INSTANCE_ID, null, UPDATED_AT));
+        final Integer repeated = transactionTemplate.execute(status ->
+                repository.updateDistrictByProcessInstanceId(PROCESS_INSTANCE_ID, null, UPDATED_AT));
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(0, repeated);
+        assertNull(readDistrict());
+    }
+
+    @Test
+    void transactionLoadedBeforeTheUpdateDoesNotRevertItOnFlush() {
+        // Act
+        final Transaction updated = transactionTemplate.execute(status -> {
+            final Transaction transaction = repository.findByProcessInstanceId(PROCESS_INSTANCE_ID).orElseThrow();
+            transaction.setStatus("reviewed");
+            repository.updateDistrictByProcessInstanceId(PROCESS_INSTANCE_ID, "DISTRICT2", UPDATED_AT);
+            transaction.setPriority("high");
+            return transaction;
+        });
+
+        // Assert
+        // the pending status change and the later priority change are each written once, around the district update
+        assertEquals("DISTRICT2", readDistrict());
+        assertEquals("reviewed", jdbcTemplate.queryForObject(
+                "SELECT status FROM transaction WHERE id = ?", String.class, transactionId));
+        assertEquals("high", jdbcTemplate.queryForObject(
+                "SELECT priority FROM transaction WHERE id = ?", String.class, transactionId));
+        assertEquals(3L, readVersion());
+        assertEquals("DISTRICT2", updated.getDistrict());
+        assertEquals("new", updated.getCountedAs().getStatus());
+    }
+
+    private Long readVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM transaction WHERE id = ?", Long.class, transactionId);
+    }
+
+    private String readDistrict() {
+        return jdbcTemplate.queryForObject("SELECT district FROM transaction WHERE id = ?", String.class,
+                transactionId);
+    }
+}
@@ -0,0 +1,172 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.specifications.TransactionSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks through EXPLAIN that the SQL issued for transaction searches is served by the indexes created in the
+ * Liquibase changelog. The statements are recorded while the repository runs the search, so the plans are those of
+ * the queries the service actually issues. The number of seeded transactions defaults to 2,000 and is set with the
+ * {@code transactionIndexes.seedRows} system property; {@code ./gradlew transactionIndexesTest} runs this test
+ * against 1,000,000 transactions.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionIndexesTest {
+    private static final OffsetDateTime ONE_HOUR_AGO = OffsetDateTime.now().minusHours(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private TransactionLinkRepository linkRepository;
+
+    private TransactionTestFixture fixture;
+
+    @BeforeAll
+    void seed() {
+        final int rows = Integer.getInteger("transactionIndexes.seedRows", 2_000);
+        fixture = new TransactionTestFixture(jdbcTemplate, "indexes-test");
+        fixture.create("indexes");
+        jdbcTemplate.update("INSERT INTO transaction (id, transaction_definition_id, transaction_definition_key, "
+                + "process_instance_id, status, created_by, subject_user_id, priority, created_timestamp, "
+                + "last_updated_timestamp, entity_id, assigned_to) "
+                + "SELECT CAST(RANDOM_UUID() AS VARCHAR(36)), ?, 'key-' || MOD(X, 50), 'process-' || X, "
+                + "'status-' || MOD(X, 20), 'user-' || MOD(X, 1000), 'user-' || MOD(X, 1000), 'low', "
+                + "DATEADD('SECOND', -X, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, ?, 'assignee-' || MOD(X, 500) "
+                + "FROM SYSTEM_RANGE(1, ?)",
+                fixture.getTransactionDefinitionId(), fixture.getEntityId(), rows);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @ParameterizedTest
+    @MethodSource("searches")
+    void searchUsesIndex(TransactionFilters filters, List<Object> parameters, String indexName) {
+        // Act
+        SqlStatementRecorder.start();
+        repository.findAll(new TransactionSpecification().getTransactions(filters),
+                Sort.by(Sort.Direction.DESC, "createdTimestamp"));
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertUsesIndex(explain(statements.get(0), parameters), indexName);
+    }
+
+    @Test
+    void processInstanceLookupUsesIndex() {
+        // Act
+        SqlStatementRecorder.start();
+        repository.findByProcessInstanceId("process-42");
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertUsesIndex(explain(statements.get(0), List.of("process-42")), "ix_transaction_process_instance_id");
+    }
+
+    @Test
+    void userLookupUsesIndexForEachCondition() {
+        // Act
+        SqlStatementRecorder.start();
+        final List<Transaction> transactions = repository.searchByTransactionByUser("user-7");
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        // every seeded transaction is created by its subject, so each is found by both lookups but returned once
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE created_by = 'user-7'",
+                Integer.class), transactions.size());
+        for (int i = 1; i < transactions.size(); i++) {
+            assertFalse(transactions.get(i).getCreatedTimestamp()
+                    .isAfter(transactions.get(i - 1).getCreatedTimestamp()));
+        }
+        assertEquals(2, statements.size(), statements.toString());
+        assertUsesIndex(explain(statements.get(0), List.of("user-7")), "ix_transaction_created_by_created");
+        assertUsesIndex(explain(statements.get(1), List.of("user-7")), "ix_transaction_subject_user_id_created");
+    }
+
+    @Test
+    void linkLookupUsesIndexForEachDirection() {
+        // Arrange
+        final UUID id = UUID.randomUUID();
+
+        // Act
+        SqlStatementRecorder.start();
+        linkRepository.getTransactionLinksById(id);
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertEquals(2, statements.size(), statements.toString());
+        assertUsesIndex(explain(statements.get(0), List.of(id.toString())), "ix_transaction_link_from_transaction_id");
+        assertUsesIndex(explain(statements.get(1), List.of(id.toString())), "ix_transaction_link_to_transaction_id");
+    }
+
+    @Test
+    void categoryPrefixLookupUsesIndex() {
+        // Act
+        // a prefix no definition has, so that nothing is loaded; the repository appends the wildcard to the value
+        SqlStatementRecorder.start();
+        repository.searchByCategory("no-such-category");
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        // H2 plans the prefix match as a range on the plain index created for databases other than PostgreSQL
+        final String plan = explain(statements.get(0), List.of("no-such-category%"));
+        assertUsesIndex(plan, "ix_transaction_definition_category");
+        assertUsesIndex(plan, "ix_transaction_definition_id");
+    }
+
+    private Stream<Arguments> searches() {
+        return Stream.of(
+                Arguments.of(TransactionFilters.builder().transactionDefinitionKey("key-7").build(),
+                        List.of("key-7"), "ix_transaction_definition_key_created"),
+                Arguments.of(TransactionFilters.builder().status(List.of("status-3", "status-4")).build(),
+                        List.of("status-3", "status-4"), "ix_transaction_status_created"),
+                Arguments.of(TransactionFilters.builder().assignedTo(List.of("assignee-1", "assignee-2")).build(),
+                        List.of("assignee-1", "assignee-2"), "ix_transaction_assigned_to_created"),
+                Arguments.of(TransactionFilters.builder().startDate(ONE_HOUR_AGO).build(),
+                        List.of(ONE_HOUR_AGO), "ix_transaction_created_timestamp")
+        );
+    }
+
+    private String explain(String sql, List<Object> parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters.toArray());
+    }
+
+    private static void assertUsesIndex(String plan, String indexName) {
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(indexName), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+}
@@ -0,0 +1,144 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.models.TransactionCursor;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.specifications.TransactionSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionKeysetPaginationTest {
+    private static final String DEFINITION_KEY = "keyset-pagination-test";
+    private static final List<String> PRIORITIES = Arrays.asList(null, "high", "high", "low", null, "medium", "high");
+
+    private final List<SeededTransaction> seeded = new ArrayList<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    private TransactionTestFixture fixture;
+
+    @BeforeAll
+    void seed() {
+        fixture = new TransactionTestFixture(jdbcTemplate, DEFINITION_KEY);
+        fixture.create();
+
+        final LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < PRIORITIES.size(); i++) {
+            final String priority = PRIORITIES.get(i);
+            final LocalDateTime createdTimestamp = now.minusMinutes(i / 2);
+            final String id = fixture.insertTransaction(DEFINITION_KEY + "-" + i, "new", priority, createdTimestamp);
+            seeded.add(new SeededTransaction(id, priority, createdTimestamp));
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"priority,false", "priority,true", "createdTimestamp,false", "createdTimestamp,true", "id,true"})
+    void pagesVisitEveryTransactionOnceInSortOrder(String sortCol, boolean descending) {
+        // Arrange
+        final Specification<Transaction> specification = new TransactionSpecification().getTransactions(
+                TransactionFilters.builder().transactionDefinitionKey(DEFINITION_KEY).build());
+        final List<String> visited = new ArrayList<>();
+        TransactionCursor cursor = null;
+
+        // Act
+        do {
+            final Specification<Transaction> pageSpecification = cursor == null
+                    ? specification
+                    : specification.and(new TransactionSpecification().after(cursor));
+            final List<Transaction> page = repository.findFirstInKeysetOrder(pageSpecification, sortCol, descending, 3);
+            page.forEach(t -> visited.add(t.getId().toString()));
+            cursor = page.size() < 3 ? null : TransactionCursor.after(page.get(page.size() - 1), sortCol, descending);
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expectedOrder(sortCol, descending), visited);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"priority,false", "createdTimestamp,true", "id,false"})
+    @Transactional
+    void streamVisitsEveryTransactionOnceInSortOrder(String sortCol, boolean descending) {
+        // Arrange
+        final Specification<Transaction> specification = new TransactionSpecification().getTransactions(
+                TransactionFilters.builder().transactionDefinitionKey(DEFINITION_KEY).build());
+
+        // Act
+        final List<String> visited;
+        try (Stream<Transaction> transactions = repository.streamInKeysetOrder(specification, sortCol, descending, 2)) {
+            visited = transactions.map(t -> t.getId().toString()).collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(expectedOrder(sortCol, descending), visited);
+    }
+
+    private List<String> expectedOrder(String sortCol, boolean descending) {
+        final Comparator<SeededTransaction> byId = Comparator.comparing(t -> t.id);
+        final Comparator<SeededTransaction> comparator;
+        switch (sortCol) {
+            case "priority":
+                comparator = Comparator.<SeededTransaction, String>comparing(t -> Objects.toString(t.priority, ""))
+                        .thenComparing(byId);
+                break;
+            case "createdTimestamp":
+                comparator = Comparator.<SeededTransaction, LocalDateTime>comparing(t -> t.createdTimestamp)
+                        .thenComparing(byId);
+                break;
+            default:
+                comparator = byId;
+                break;
+        }
+
+        return seeded.stream()
+                .sorted(descending ? comparator.reversed() : comparator)
+                .map(t -> t.id)
+                .collect(Collectors.toList());
+    }
+
+    private static final class SeededTransaction {
+        private final String id;
+        private final String priority;
+        private final LocalDateTime createdTimestamp;
+
+        private SeededTransaction(String id, String priority, LocalDateTime createdTimestamp) {
+            this.id = id;
+            this.priority = priority;
+            this.createdTimestamp = createdTimestamp;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.specifications.TransactionSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionSpecificationSqlTest {
+    private static final String STATUS = "specification-sql-test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    private TransactionTestFixture fixture;
+
+    @BeforeAll
+    void seed() {
+        fixture = new TransactionTestFixture(jdbcTemplate, "sql-test");
+        fixture.create("specification-sql");
+        fixture.insertTransaction("sql-test", STATUS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @Test
+    void statusSearchIssuesOneStatementWithoutJoiningDefinitions() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder().status(List.of(STATUS)).build();
+
+        // Act
+        SqlStatementRecorder.start();
+        final Page<Transaction> results = repository.findAll(
+                new TransactionSpecification().getTransactions(filters), PageRequest.of(0, 10));
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertEquals(1, results.getTotalElements());
+        assertEquals(1, statements.size(), statements.toString());
+        assertFalse(statements.get(0).toLowerCase(Locale.ROOT).contains("join"), statements.get(0));
+    }
+
+    @Test
+    void statusCountIssuesOneStatementWithoutJoiningDefinitions() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder().status(List.of(STATUS)).build();
+
+        // Act
+        SqlStatementRecorder.start();
+        final List<TransactionCountByStatusModel> counts = repository.getTransactionCountsByStatus(
+                new TransactionSpecification().getTransactions(filters));
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertEquals(1, counts.size());
+        assertEquals(1, statements.size(), statements.toString());
+        assertFalse(statements.get(0).toLowerCase(Locale.ROOT).contains("join"), statements.get(0));
+    }
+
+    @Test
+    void categorySearchJoinsDefinitions() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder().category("specification-sql").build();
+
+        // Act
+        SqlStatementRecorder.start();
+        final Page<Transaction> results = repository.findAll(
+                new TransactionSpecification().getTransactions(filters), PageRequest.of(0, 10));
+        final List<String> statements = SqlStatementRecorder.stop();
+
+        // Assert
+        assertEquals(1, results.getTotalElements());
+        assertEquals(1, statements.size(), statements.toString());
+        assertTrue(statements.get(0).toLowerCase(Locale.ROOT).contains("join transaction_definition"),
+                statements.get(0));
+    }
+}
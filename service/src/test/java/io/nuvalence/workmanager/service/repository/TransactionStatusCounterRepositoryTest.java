@@ -0,0 +1,123 @@
+package io.nuvalence.workmanager.service.repository;
+
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.specifications.TransactionStatusCounterSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionStatusCounterRepositoryTest {
+    private static final String DEFINITION_KEY = "status-counter-test";
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.systemDefault());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionStatusCounterRepository repository;
+
+    private TransactionTestFixture fixture;
+
+    @BeforeAll
+    void seed() {
+        fixture = new TransactionTestFixture(jdbcTemplate, DEFINITION_KEY);
+        fixture.create("status-counter");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.increment(key("new", "high", TODAY));
+            repository.increment(key("new", "high", TODAY));
+            repository.increment(key("new", "low", TODAY.minusDays(3)));
+            repository.increment(key("review", "", TODAY));
+            repository.increment(key("closed", "low", TODAY));
+            repository.increment(key("batch", "medium", TODAY), 5);
+            repository.increment(key("batch", "medium", TODAY), 3);
+            repository.decrement(key("closed", "low", TODAY));
+            repository.decrement(key("closed", "low", TODAY));
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @Test
+    void incrementAndDecrementMaintainBucketCounts() {
+        // Act
+        final long newHigh = repository.findById(key("new", "high", TODAY)).orElseThrow().getTransactionCount();
+        final long closedLow = repository.findById(key("closed", "low", TODAY)).orElseThrow().getTransactionCount();
+        final long batchMedium = repository.findById(key("batch", "medium", TODAY)).orElseThrow()
+                .getTransactionCount();
+
+        // Assert
+        assertEquals(2, newHigh);
+        assertEquals(0, closedLow);
+        assertEquals(8, batchMedium);
+    }
+
+    @Test
+    void countsAreSummedPerStatusWithoutEmptyStatuses() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder().category("status-counter").build();
+
+        // Act
+        final Map<String, Integer> counts = getCounts(filters);
+
+        // Assert
+        assertEquals(Map.of("new", 3, "review", 1, "batch", 8), counts);
+    }
+
+    @Test
+    void countsAreFilteredByDayAndPriority() {
+        // Arrange
+        final ZoneId zone = ZoneId.systemDefault();
+        final TransactionFilters filters = TransactionFilters.builder()
+                .transactionDefinitionKey(DEFINITION_KEY)
+                .startDate(TODAY.atStartOfDay(zone).toOffsetDateTime())
+                .endDate(TODAY.plusDays(1).atStartOfDay(zone).toOffsetDateTime())
+                .priority(List.of("high", "low"))
+                .build();
+
+        // Act
+        final Map<String, Integer> counts = getCounts(filters);
+
+        // Assert
+        assertEquals(Map.of("new", 2), counts);
+    }
+
+    private Map<String, Integer> getCounts(TransactionFilters filters) {
+        return repository.getTransactionCountsByStatus(new TransactionStatusCounterSpecification().getCounters(filters))
+                .stream()
+                .collect(Collectors.toMap(TransactionCountByStatusModel::getStatus,
+                        TransactionCountByStatusModel::getCount));
+    }
+
+    private static TransactionStatusCounterKey key(String status, String priority, LocalDate createdDate) {
+        return new TransactionStatusCounterKey(DEFINITION_KEY, status, priority, "", createdDate);
+    }
+}
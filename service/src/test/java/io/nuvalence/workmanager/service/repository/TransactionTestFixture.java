@@ -0,0 +1,124 @@
+package io.nuvalence.workmanager.service.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Rows a transaction depends on, a schema, an entity and a transaction definition, seeded for integration tests that
+ * run against the database. Every test class seeds its own definition so that test classes do not see each other's
+ * transactions, and {@link #delete()} removes the transactions and status counts recorded against it.
+ */
+public class TransactionTestFixture {
+    private final JdbcTemplate jdbcTemplate;
+    private final String definitionKey;
+    private final String schemaName;
+    private final String transactionDefinitionId = UUID.randomUUID().toString();
+    private final String entityId = UUID.randomUUID().toString();
+
+    /**
+     * Constructs a new instance of a TransactionTestFixture.
+     *
+     * @param jdbcTemplate template used to seed and remove the rows
+     * @param definitionKey key of the transaction definition, unique to the test class
+     */
+    public TransactionTestFixture(JdbcTemplate jdbcTemplate, String definitionKey) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.definitionKey = definitionKey;
+        this.schemaName = definitionKey + "-schema";
+    }
+
+    public String getDefinitionKey() {
+        return definitionKey;
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public String getTransactionDefinitionId() {
+        return transactionDefinitionId;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Seeds an empty schema and entity, and a transaction definition without a category.
+     */
+    public void create() {
+        create("{}", "{}", null);
+    }
+
+    /**
+     * Seeds an empty schema and entity, and a transaction definition in a category.
+     *
+     * @param category category of the transaction definition
+     */
+    public void create(String category) {
+        create("{}", "{}", category);
+    }
+
+    /**
+     * Seeds the schema, entity and transaction definition.
+     *
+     * @param schemaJson JSON of the schema
+     * @param entityJson JSON of the entity transactions are given
+     * @param category category of the transaction definition, may be null
+     */
+    public void create(String schemaJson, String entityJson, String category) {
+        jdbcTemplate.update("INSERT INTO dynamic_schema (name, schema_json) VALUES (?, ?)", schemaName, schemaJson);
+        jdbcTemplate.update("INSERT INTO dynamic_entity (id, schema, entity_json) VALUES (?, ?, ?)",
+                entityId, schemaName, entityJson);
+        jdbcTemplate.update("INSERT INTO transaction_definition (id, transaction_definition_key, name, "
+                + "process_definition_key, entity_schema, default_status, category) "
+                + "VALUES (?, ?, ?, ?, ?, 'new', ?)",
+                transactionDefinitionId, definitionKey, definitionKey, definitionKey, schemaName, category);
+    }
+
+    /**
+     * Inserts a transaction created now, without a priority.
+     *
+     * @param processInstanceId process instance id of the transaction
+     * @param status status of the transaction
+     * @return id of the transaction
+     */
+    public String insertTransaction(String processInstanceId, String status) {
+        return insertTransaction(processInstanceId, status, null, LocalDateTime.now());
+    }
+
+    /**
+     * Inserts a transaction.
+     *
+     * @param processInstanceId process instance id of the transaction
+     * @param status status of the transaction
+     * @param priority priority of the transaction, may be null
+     * @param createdTimestamp creation and last update time of the transaction
+     * @return id of the transaction
+     */
+    public String insertTransaction(String processInstanceId, String status, String priority,
+                                    LocalDateTime createdTimestamp) {
+        final String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO transaction (id, transaction_definition_id, transaction_definition_key, "
+                + "process_instance_id, status, created_by, subject_user_id, priority, created_timestamp, "
+                + "last_updated_timestamp, entity_id) VALUES (?, ?, ?, ?, ?, 'user', 'user', ?, ?, ?, ?)",
+                id, transactionDefinitionId, definitionKey, processInstanceId, status, priority,
+                Timestamp.valueOf(createdTimestamp), Timestamp.valueOf(createdTimestamp), entityId);
+        return id;
+    }
+
+    /**
+     * Removes the seeded rows, along with the transactions and status counts of the transaction definition.
+     */
+    public void delete() {
+        jdbcTemplate.update("DELETE FROM transaction WHERE transaction_definition_id = ?", transactionDefinitionId);
+        jdbcTemplate.update("DELETE FROM transaction_status_count WHERE transaction_definition_key = ?",
+                definitionKey);
+        jdbcTemplate.update("DELETE FROM transaction_definition WHERE id = ?", transactionDefinitionId);
+        jdbcTemplate.update("DELETE FROM dynamic_entity WHERE id = ?", entityId);
+        jdbcTemplate.update("DELETE FROM dynamic_schema WHERE name = ?", schemaName);
+    }
+}
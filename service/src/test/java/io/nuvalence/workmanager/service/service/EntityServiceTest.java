@@ -10,16 +10,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class EntityServiceTest {
@@ -99,6 +106,37 @@ class EntityServiceTest {
         assertThrows(RuntimeException.class, () -> service.getEntityById(id));
     }
 
+    @Test
+    void getEntitiesByIdsFetchesRowsAndSchemaOnce() throws JsonProcessingException {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final Entity entity1 = new Entity(schema, UUID.randomUUID());
+        final Entity entity2 = new Entity(schema, UUID.randomUUID());
+        final EntityRow row1 = mapper.entityToEntityRow(entity1);
+        final EntityRow row2 = mapper.entityToEntityRow(entity2);
+        final Set<UUID> ids = Set.of(entity1.getId(), entity2.getId());
+        Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
+        Mockito.when(repository.findAllById(ids)).thenReturn(List.of(row1, row2));
+
+        // Act
+        final Map<UUID, Entity> result = service.getEntitiesByIds(ids);
+
+        // Assert
+        assertEquals(Map.of(entity1.getId(), entity1, entity2.getId(), entity2), result);
+        Mockito.verify(repository, Mockito.times(1)).findAllById(ids);
+        Mockito.verify(schemaService, Mockito.times(1)).getSchemaByName(schema.getName());
+    }
+
+    @Test
+    void getEntitiesByIdsSkipsQueryForEmptyInput() {
+        // Act and Assert
+        assertEquals(Map.of(), service.getEntitiesByIds(List.of()));
+        Mockito.verifyNoInteractions(repository);
+    }
+
     @Test
     void getEntitiesBySchemaReturnsFoundEntities() throws JsonProcessingException {
         // Arrange
@@ -130,9 +168,159 @@ class EntityServiceTest {
         final Entity finalEntity = new Entity(schema, id);
         final EntityRow finalRow = mapper.entityToEntityRow(finalEntity);
         Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
-        Mockito.when(repository.save(row)).thenReturn(finalRow);
+        Mockito.when(repository.saveAndFlush(row)).thenReturn(finalRow);
 
         // Act and Assert
         assertEquals(finalEntity, service.saveEntity(entity));
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveEntityMarksEntityClean() throws JsonProcessingException {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final Entity entity = new Entity(schema, UUID.randomUUID());
+        entity.set("attribute", "value");
+        final EntityRow row = mapper.entityToEntityRow(entity);
+        Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
+        Mockito.when(repository.saveAndFlush(row)).thenReturn(row);
+
+        // Act
+        service.saveEntity(entity);
+
+        // Assert
+        assertFalse(entity.isDirty());
+    }
+
+    @Test
+    void saveEntityChecksCurrentVersionWhenEntityVersionIsUnknown() throws JsonProcessingException {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final Entity entity = new Entity(schema, UUID.randomUUID());
+        final EntityRow stored = mapper.entityToEntityRow(entity).toBuilder().version(3).build();
+        final EntityRow saved = stored.toBuilder().version(4).build();
+        Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
+        Mockito.when(repository.findById(entity.getId())).thenReturn(Optional.of(stored));
+        Mockito.when(repository.saveAndFlush(ArgumentMatchers.<EntityRow>argThat(row -> row.getVersion() == 3)))
+                .thenReturn(saved);
+
+        // Act
+        final Entity result = service.saveEntity(entity);
+
+        // Assert
+        assertEquals(4L, entity.getVersion());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    void saveNewEntitiesInsertsAllRowsAtOnce() {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
+        Mockito.doAnswer(invocation -> {
+            final List<EntityRow> rows = invocation.getArgument(0);
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).setId(ids.get(i));
+            }
+            return null;
+        }).when(repository).insertAll(ArgumentMatchers.anyList());
+
+        // Act
+        final List<Entity> saved = service.saveNewEntities(List.of(new Entity(schema), new Entity(schema)));
+
+        // Assert
+        assertEquals(ids, saved.stream().map(Entity::getId).collect(Collectors.toList()));
+        Mockito.verify(repository, Mockito.times(1)).insertAll(ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void saveChangesSkipsCleanEntity() {
+        // Arrange
+        final Entity entity = new Entity(Schema.builder().name("testschema").build(), UUID.randomUUID());
+
+        // Act
+        service.saveChanges(entity);
+
+        // Assert
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void saveChangesMergesChangedAttributesWhenSupported() throws JsonProcessingException {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .property("other", String.class)
+                .build();
+        final Entity entity = new Entity(schema, UUID.randomUUID());
+        entity.set("other", "unchanged");
+        entity.setVersion(2L);
+        entity.markClean();
+        entity.set("attribute", "value");
+        final String attributes = mapper.entityAttributesToJson(entity, Set.of("attribute"));
+        Mockito.when(repository.supportsAttributeMerge()).thenReturn(true);
+        Mockito.when(repository.mergeAttributes(entity.getId(), 2L, attributes)).thenReturn(1);
+
+        // Act
+        service.saveChanges(entity);
+
+        // Assert
+        Mockito.verify(repository, Mockito.never()).saveAndFlush(ArgumentMatchers.any());
+        assertEquals(3L, entity.getVersion());
+        assertFalse(entity.isDirty());
+    }
+
+    @Test
+    void saveChangesThrowsWhenEntityVersionChanged() {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final Entity entity = new Entity(schema, UUID.randomUUID());
+        entity.setVersion(2L);
+        entity.set("attribute", "value");
+        Mockito.when(repository.supportsAttributeMerge()).thenReturn(true);
+        Mockito.when(repository.mergeAttributes(ArgumentMatchers.eq(entity.getId()), ArgumentMatchers.eq(2L),
+                ArgumentMatchers.anyString())).thenReturn(0);
+
+        // Act and Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.saveChanges(entity));
+        assertTrue(entity.isDirty());
+    }
+
+    @Test
+    void saveChangesWritesEntityInFullWhenMergeIsNotSupported() throws JsonProcessingException {
+        // Arrange
+        final Schema schema = Schema.builder()
+                .name("testschema")
+                .property("attribute", String.class)
+                .build();
+        final Entity entity = new Entity(schema, UUID.randomUUID());
+        entity.setVersion(2L);
+        entity.set("attribute", "value");
+        final EntityRow row = mapper.entityToEntityRow(entity);
+        Mockito.when(schemaService.getSchemaByName(schema.getName())).thenReturn(Optional.of(schema));
+        Mockito.when(repository.supportsAttributeMerge()).thenReturn(false);
+        Mockito.when(repository.saveAndFlush(row)).thenReturn(row.toBuilder().version(3).build());
+
+        // Act
+        service.saveChanges(entity);
+
+        // Assert
+        Mockito.verify(repository, Mockito.never()).mergeAttributes(ArgumentMatchers.any(),
+                ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+        assertEquals(3L, entity.getVersion());
+        assertFalse(entity.isDirty());
+    }
+}
@@ -0,0 +1,125 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.TransactionCreationResult;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import io.nuvalence.workmanager.service.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchServiceTest {
+    @Mock
+    private TransactionFactory factory;
+
+    @Mock
+    private TransactionRepository repository;
+
+    @Mock
+    private TransactionStatusCounterService statusCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TransactionDefinition definition = TransactionDefinition.builder()
+            .id(UUID.randomUUID())
+            .key("key")
+            .entitySchema("schema")
+            .build();
+
+    private TransactionCreationContext context;
+
+    @BeforeEach
+    void setup() throws MissingSchemaException {
+        context = new TransactionCreationContext(definition, Schema.builder().name("schema").build(),
+                new TransactionFactory.Creator("user", "user"));
+        Mockito.when(factory.prepareCreation(definition)).thenReturn(context);
+    }
+
+    @Test
+    void createTransactionsInChunks() throws MissingSchemaException, MissingEntityException {
+        // Arrange
+        final TransactionBatchService service = createService(2);
+        Mockito.when(factory.createTransactions(ArgumentMatchers.eq(context), ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> createTransactions(invocation.getArgument(1)));
+
+        // Act
+        final List<TransactionCreationResult> results = service.createTransactions(definition, 5);
+
+        // Assert
+        assertEquals(5, results.stream().filter(TransactionCreationResult::isCreated).count());
+        Mockito.verify(factory, Mockito.times(1)).prepareCreation(definition);
+        Mockito.verify(factory, Mockito.times(2)).createTransactions(context, 2);
+        Mockito.verify(factory, Mockito.times(1)).createTransactions(context, 1);
+        Mockito.verify(repository, Mockito.times(3)).insertAll(ArgumentMatchers.anyList());
+        Mockito.verify(statusCounterService, Mockito.times(3)).recordCreated(ArgumentMatchers.anyList());
+        Mockito.verify(transactionManager, Mockito.times(3)).commit(ArgumentMatchers.any());
+        Mockito.verify(eventPublisher, Mockito.times(5)).publishEvent(ArgumentMatchers.any(TransactionEvent.class));
+    }
+
+    @Test
+    void failedChunkIsRetriedOneTransactionAtATime() throws MissingSchemaException, MissingEntityException {
+        // Arrange
+        final TransactionBatchService service = createService(3);
+        Mockito.when(factory.createTransactions(context, 3))
+                .thenThrow(new IllegalStateException("process failed to start"));
+        Mockito.when(factory.createTransactions(context, 1))
+                .thenReturn(createTransactions(1))
+                .thenThrow(new IllegalStateException("process failed to start"))
+                .thenReturn(createTransactions(1));
+
+        // Act
+        final List<TransactionCreationResult> results = service.createTransactions(definition, 3);
+
+        // Assert
+        assertEquals(List.of(true, false, true), results.stream()
+                .map(TransactionCreationResult::isCreated)
+                .collect(Collectors.toList()));
+        assertNotNull(results.get(0).getId());
+        assertNull(results.get(0).getError());
+        assertNull(results.get(1).getId());
+        assertEquals("process failed to start", results.get(1).getError());
+        Mockito.verify(transactionManager, Mockito.times(2)).rollback(ArgumentMatchers.any());
+        Mockito.verify(transactionManager, Mockito.times(2)).commit(ArgumentMatchers.any());
+    }
+
+    private TransactionBatchService createService(int chunkSize) {
+        return new TransactionBatchService(factory, repository, statusCounterService, eventPublisher,
+                transactionManager, chunkSize);
+    }
+
+    private List<Transaction> createTransactions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Transaction.builder()
+                        .id(UUID.randomUUID())
+                        .transactionDefinitionKey(definition.getKey())
+                        .status("new")
+                        .createdTimestamp(OffsetDateTime.now())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
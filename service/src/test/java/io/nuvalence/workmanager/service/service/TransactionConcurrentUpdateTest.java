@@ -0,0 +1,150 @@
+package io.nuvalence.workmanager.service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nuvalence.workmanager.service.domain.dynamicschema.Schema;
+import io.nuvalence.workmanager.service.domain.transaction.MissingEntityException;
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.mapper.SchemaMapper;
+import io.nuvalence.workmanager.service.repository.TransactionTestFixture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Updates one transaction from many threads at once. Every update is a read-modify-write of a counter in the
+ * transaction's entity, retried when it loses a race, so any lost update shows up as a missing increment.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionConcurrentUpdateTest {
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionService service;
+
+    private TransactionTestFixture fixture;
+    private UUID transactionId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        fixture = new TransactionTestFixture(jdbcTemplate, "concurrent-test");
+        final Schema schema = Schema.builder()
+                .name(fixture.getSchemaName())
+                .property("counter", Integer.class)
+                .build();
+        fixture.create(SchemaMapper.INSTANCE.schemaToSchemaRow(schema).getSchemaJson(), "{\"counter\": 0}", null);
+        transactionId = UUID.fromString(fixture.insertTransaction("concurrent-test", "new"));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        // Arrange
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = 0; n < INCREMENTS_PER_THREAD; n++) {
+                        incrementCounter();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        // only version conflicts are expected, and those are retried; a lock timeout would be reported here
+        assertEquals(List.of(), failures);
+        final String entityJson = jdbcTemplate.queryForObject(
+                "SELECT entity_json FROM dynamic_entity WHERE id = ?", String.class, fixture.getEntityId());
+        assertEquals(THREADS * INCREMENTS_PER_THREAD, new ObjectMapper().readTree(entityJson).get("counter").asInt());
+        assertEquals(THREADS * INCREMENTS_PER_THREAD, jdbcTemplate.queryForObject(
+                "SELECT version FROM transaction WHERE id = ?", Long.class, transactionId.toString()));
+    }
+
+    @Test
+    void updatingDetachedTransactionReturnsStoredVersion() throws Exception {
+        // Arrange
+        final UUID detachedId = UUID.fromString(fixture.insertTransaction("detached-test", "new"));
+        // loaded outside of any database transaction, as the API does, so the update merges a detached copy
+        final Transaction transaction = service.getTransactionById(detachedId).orElseThrow();
+        transaction.setAssignedTo("user-1");
+
+        // Act
+        final Transaction updated = service.updateTransaction(transaction);
+        updated.setAssignedTo("user-2");
+        final Transaction updatedAgain = service.updateTransaction(updated);
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+        assertEquals(updatedAgain.getVersion(), jdbcTemplate.queryForObject(
+                "SELECT version FROM transaction WHERE id = ?", Long.class, detachedId.toString()));
+        assertEquals(2L, updatedAgain.getVersion());
+    }
+
+    private void incrementCounter() {
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    final Transaction transaction = getTransaction();
+                    final Integer counter = (Integer) transaction.getData().get("counter");
+                    transaction.getData().set("counter", counter + 1);
+                    service.updateTransaction(transaction);
+                });
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // lost the race to a concurrent update; read the new state and try again
+            }
+        }
+    }
+
+    private Transaction getTransaction() {
+        try {
+            return service.getTransactionById(transactionId).orElseThrow();
+        } catch (MissingEntityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionEventServiceTest {
+    @Mock
+    private ExecutorService sender;
+
+    private TransactionEventService service;
+
+    @BeforeEach
+    void setup() {
+        service = new TransactionEventService(2, 60_000L, 1);
+        service.setSender(sender);
+    }
+
+    @Test
+    void eventsAreOnlyQueuedForMatchingSubscribers() {
+        // Arrange
+        service.subscribe(TransactionFilters.builder().transactionDefinitionKey("other").build());
+        service.subscribe(TransactionFilters.builder().category("licens").build());
+        service.subscribe(TransactionFilters.builder().assignedTo(List.of("user-2")).build());
+        final Transaction transaction = createTransaction("key", "user-1");
+        final TransactionDefinition definition = TransactionDefinition.builder().category("licensing").build();
+
+        // Act
+        service.onTransactionEvent(TransactionEvent.created(transaction, definition));
+        service.onTransactionEvent(TransactionEvent.assigned(transaction, null, "user-2"));
+
+        // Assert
+        // the category subscriber matches the creation and the assignee subscriber the reassignment away from user-2
+        Mockito.verify(sender, Mockito.times(2)).execute(ArgumentMatchers.any());
+        assertEquals(3, service.getSubscriberCount());
+    }
+
+    @Test
+    void subscriberIsDroppedWhenItsBufferIsFull() {
+        // Arrange
+        service.subscribe(TransactionFilters.builder().build());
+        service.subscribe(TransactionFilters.builder().transactionDefinitionKey("other").build());
+        final Transaction transaction = createTransaction("key", "");
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            service.onTransactionEvent(TransactionEvent.statusChanged(transaction, null, "status-" + i));
+        }
+
+        // Assert
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    private Transaction createTransaction(String transactionDefinitionKey, String assignedTo) {
+        return Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionKey(transactionDefinitionKey)
+                .status("new")
+                .assignedTo(assignedTo)
+                .build();
+    }
+}
@@ -170,6 +170,44 @@ class TransactionFactoryTest {
                 .build());
     }
 
+    @Test
+    void createTransactionsStartsOneProcessEachAndSavesEntitiesTogether()
+            throws MissingSchemaException, MissingEntityException {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder()
+                .id(UUID.randomUUID())
+                .key("key")
+                .defaultStatus("status")
+                .entitySchema("schema")
+                .processDefinitionKey("process-id")
+                .build();
+        final Schema schema = Schema.builder().name("schema").build();
+        final List<Entity> saved = List.of(
+                new Entity(schema, UUID.randomUUID()), new Entity(schema, UUID.randomUUID()));
+        Mockito.when(schemaService.getSchemaByName("schema")).thenReturn(Optional.of(schema));
+        Mockito.when(processEngine.getRuntimeService()).thenReturn(runtimeService);
+        Mockito
+                .when(runtimeService.startProcessInstanceByKey(definition.getProcessDefinitionKey()))
+                .thenReturn(processInstance);
+        Mockito.when(processInstance.getId()).thenReturn("process-instance-id");
+        Mockito.when(entityService.saveNewEntities(List.of(new Entity(schema), new Entity(schema)))).thenReturn(saved);
+
+        // Act
+        final TransactionCreationContext context = factory.prepareCreation(definition);
+        final List<Transaction> transactions = factory.createTransactions(context, 2);
+
+        // Assert
+        assertEquals(2, transactions.size());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(saved.get(i).getId(), transactions.get(i).getEntityId());
+            assertEquals(saved.get(i), transactions.get(i).getData());
+            assertEquals("status", transactions.get(i).getStatus());
+            assertEquals(OffsetDateTime.now(clock), transactions.get(i).getCreatedTimestamp());
+        }
+        Mockito.verify(runtimeService, Mockito.times(2)).startProcessInstanceByKey("process-id");
+        Mockito.verify(schemaService, Mockito.times(1)).getSchemaByName("schema");
+    }
+
     @Test
     void createTransactionThrowsMissingSchemaExceptionIfSchemaIsMissing() {
         // Arrange
@@ -7,25 +7,43 @@ import io.nuvalence.workmanager.service.domain.transaction.MissingEntityExceptio
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.domain.transaction.TransactionDefinition;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
 import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
 import io.nuvalence.workmanager.service.mapper.MissingSchemaException;
+import io.nuvalence.workmanager.service.models.InvalidCursorException;
+import io.nuvalence.workmanager.service.models.TransactionCursor;
+import io.nuvalence.workmanager.service.models.TransactionCursorPage;
+import io.nuvalence.workmanager.service.models.TransactionEvent;
 import io.nuvalence.workmanager.service.models.TransactionFilters;
 import io.nuvalence.workmanager.service.repository.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,12 +64,21 @@ class TransactionServiceTest {
     @Mock
     private WorkflowTasksService workflowTasksService;
 
+    @Mock
+    private TransactionStatusCounterService statusCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionDefinitionService transactionDefinitionService;
+
     private TransactionService service;
 
     @BeforeEach
     void setup() {
         service = new TransactionService(repository, factory, transactionTaskService, entityService,
-                workflowTasksService);
+                workflowTasksService, statusCounterService, eventPublisher, transactionDefinitionService);
     }
 
     @Test
@@ -68,6 +95,25 @@ class TransactionServiceTest {
 
         // Assert
         Mockito.verify(repository).save(transaction);
+        Mockito.verify(statusCounterService).recordChange(transaction);
+    }
+
+    @Test
+    void createTransactionPublishesCreatedEvent() throws MissingSchemaException, MissingEntityException {
+        // Arrange
+        final TransactionDefinition definition = TransactionDefinition.builder().category("licensing").build();
+        final Transaction transaction = Transaction.builder().id(UUID.randomUUID()).status("new").build();
+        Mockito.when(factory.createTransaction(definition)).thenReturn(transaction);
+
+        // Act
+        service.createTransaction(definition);
+
+        // Assert
+        final ArgumentCaptor<TransactionEvent> event = ArgumentCaptor.forClass(TransactionEvent.class);
+        Mockito.verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TransactionEvent.Type.CREATED, event.getValue().getType());
+        assertEquals(transaction.getId(), event.getValue().getTransactionId());
+        assertEquals("licensing", event.getValue().getCategory());
     }
 
     @Test
@@ -122,27 +168,128 @@ class TransactionServiceTest {
     }
 
     @Test
-    void updateTransaction() throws MissingEntityException {
+    void updateTransactionSavesEntityChangesWithoutReloading() throws MissingEntityException {
         // Arrange
         final Transaction transaction = Transaction.builder()
                 .id(UUID.randomUUID())
                 .entityId(UUID.randomUUID())
                 .build();
-        final Entity entity = new Entity(Schema.builder().build(), transaction.getEntityId());
-        Mockito
-                .when(repository.findById(transaction.getId()))
-                .thenReturn(Optional.of(transaction));
+        final Entity entity = new Entity(Schema.builder().property("foo", String.class).build(),
+                transaction.getEntityId());
         Mockito
                 .when(entityService.getEntityById(entity.getId()))
                 .thenReturn(Optional.of(entity));
         transaction.loadEntity(entityService);
+        entity.set("foo", "bar");
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(transaction);
+
+        // Act
+        service.updateTransaction(transaction);
+
+        // Assert
+        Mockito.verify(entityService).saveChanges(entity);
+        Mockito.verify(entityService, Mockito.never()).saveEntity(ArgumentMatchers.any());
+        Mockito.verify(repository).saveAndFlush(transaction);
+        Mockito.verify(repository, Mockito.never()).findById(ArgumentMatchers.any());
+        Mockito.verify(statusCounterService).recordChange(transaction);
+    }
+
+    @Test
+    void updateTransactionReturnsMergedCopyOfDetachedTransaction() throws MissingEntityException {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .status("new")
+                .build();
+        final Entity entity = new Entity(Schema.builder().build(), transaction.getEntityId());
+        transaction.loadEntity(Map.of(entity.getId(), entity));
+        final TransactionStatusCounterKey countedAs = TransactionStatusCounterKey.of(transaction);
+        transaction.setCountedAs(countedAs);
+        // the managed copy a detached transaction is merged into
+        final Transaction merged = transaction.toBuilder().build();
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(merged);
 
         // Act
         final Transaction result = service.updateTransaction(transaction);
 
         // Assert
-        Mockito.verify(entityService).saveEntity(entity);
-        assertEquals(transaction, result);
+        assertSame(merged, result);
+        assertSame(entity, result.getData());
+        assertEquals(countedAs, result.getCountedAs());
+        Mockito.verify(statusCounterService).recordChange(merged);
+    }
+
+    @Test
+    void updateTransactionPublishesStatusAndAssignmentChanges() {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .status("new")
+                .assignedTo("")
+                .build();
+        transaction.setCountedAs(TransactionStatusCounterKey.of(transaction));
+        transaction.setStatus("review");
+        transaction.setAssignedTo("user-1");
+        Mockito.when(transactionDefinitionService.getCategoryByKey("key")).thenReturn("licensing");
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(transaction);
+
+        // Act
+        service.updateTransaction(transaction);
+
+        // Assert
+        final ArgumentCaptor<TransactionEvent> events = ArgumentCaptor.forClass(TransactionEvent.class);
+        Mockito.verify(eventPublisher, Mockito.times(2)).publishEvent(events.capture());
+        assertEquals(TransactionEvent.Type.STATUS_CHANGED, events.getAllValues().get(0).getType());
+        assertEquals("new", events.getAllValues().get(0).getPreviousStatus());
+        assertEquals("review", events.getAllValues().get(0).getStatus());
+        assertEquals(TransactionEvent.Type.ASSIGNED, events.getAllValues().get(1).getType());
+        assertEquals("", events.getAllValues().get(1).getPreviousAssignedTo());
+        assertEquals("user-1", events.getAllValues().get(1).getAssignedTo());
+        events.getAllValues().forEach(event -> assertEquals("licensing", event.getCategory()));
+        // the category is looked up once per update, not per event
+        Mockito.verify(transactionDefinitionService).getCategoryByKey("key");
+    }
+
+    @Test
+    void updateTransactionWithoutStatusOrAssignmentChangePublishesNothing() {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .status("new")
+                .build();
+        transaction.setCountedAs(TransactionStatusCounterKey.of(transaction));
+        transaction.setPriority("high");
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(transaction);
+
+        // Act
+        service.updateTransaction(transaction);
+
+        // Assert
+        Mockito.verifyNoInteractions(eventPublisher);
+        Mockito.verifyNoInteractions(transactionDefinitionService);
+    }
+
+    @Test
+    void updateTransactionAdvancesLastUpdatedTimestamp() {
+        // Arrange
+        final OffsetDateTime now = OffsetDateTime.parse("2022-03-01T12:00:00Z");
+        service.setClock(Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .lastUpdatedTimestamp(now.minusDays(1))
+                .build();
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(transaction);
+
+        // Act
+        service.updateTransaction(transaction);
+
+        // Assert
+        assertEquals(now.toInstant(), transaction.getLastUpdatedTimestamp().toInstant());
+        Mockito.verify(repository).saveAndFlush(transaction);
     }
 
     @Test
@@ -151,13 +298,61 @@ class TransactionServiceTest {
         final Transaction transaction = Transaction.builder()
                 .id(UUID.randomUUID())
                 .entityId(UUID.randomUUID())
+                .status("new")
                 .build();
 
         // Act
-        service.completeTask(transaction, "taskId", "foo");
+        final Transaction result = service.completeTask(transaction, "taskId", "foo");
 
         // Assert
         Mockito.verify(transactionTaskService).completeTask(transaction, "taskId", "foo");
+        // the workflow left the status as it was, so there is nothing to save
+        Mockito.verify(repository, Mockito.never()).saveAndFlush(ArgumentMatchers.any());
+        Mockito.verifyNoInteractions(statusCounterService, eventPublisher);
+        assertSame(transaction, result);
+    }
+
+    @Test
+    void completeTaskSavesStatusSetByWorkflowOnDetachedTransaction()
+            throws MissingTaskException, JsonProcessingException {
+        // Arrange
+        final OffsetDateTime now = OffsetDateTime.parse("2022-03-01T12:00:00Z");
+        service.setClock(Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .status("new")
+                .lastUpdatedTimestamp(now.minusDays(1))
+                .build();
+        final TransactionStatusCounterKey countedAs = TransactionStatusCounterKey.of(transaction);
+        transaction.setCountedAs(countedAs);
+        Mockito.doAnswer(invocation -> {
+            transaction.setStatus("submitted");
+            return null;
+        }).when(transactionTaskService).completeTask(transaction, "taskId", "foo");
+        // the managed copy a detached transaction is merged into
+        final Transaction merged = transaction.toBuilder().status("submitted").build();
+        Mockito.when(repository.saveAndFlush(transaction)).thenReturn(merged);
+        Mockito.when(transactionDefinitionService.getCategoryByKey("key")).thenReturn("licensing");
+
+        // Act
+        final Transaction result = service.completeTask(transaction, "taskId", "foo");
+
+        // Assert
+        assertEquals(now, transaction.getLastUpdatedTimestamp());
+        assertSame(merged, result);
+        assertEquals(countedAs, result.getCountedAs());
+        // the status change is published only once it is saved
+        final InOrder inOrder = Mockito.inOrder(repository, eventPublisher, statusCounterService);
+        inOrder.verify(repository).saveAndFlush(transaction);
+        final ArgumentCaptor<TransactionEvent> event = ArgumentCaptor.forClass(TransactionEvent.class);
+        inOrder.verify(eventPublisher).publishEvent(event.capture());
+        inOrder.verify(statusCounterService).recordChange(merged);
+        assertEquals(TransactionEvent.Type.STATUS_CHANGED, event.getValue().getType());
+        assertEquals("new", event.getValue().getPreviousStatus());
+        assertEquals("submitted", event.getValue().getStatus());
+        assertEquals("licensing", event.getValue().getCategory());
     }
 
     @Test
@@ -177,11 +372,8 @@ class TransactionServiceTest {
                 .when(repository.searchByTransactionDefinitionKey("key"))
                 .thenReturn(List.of(transaction1, transaction2));
         Mockito
-                .when(entityService.getEntityById(entity1.getId()))
-                .thenReturn(Optional.of(entity1));
-        Mockito
-                .when(entityService.getEntityById(entity2.getId()))
-                .thenReturn(Optional.of(entity2));
+                .when(entityService.getEntitiesByIds(Set.of(entity1.getId(), entity2.getId())))
+                .thenReturn(Map.of(entity1.getId(), entity1, entity2.getId(), entity2));
 
         // Act and Assert
         assertEquals(List.of(transaction1, transaction2), service.getTransactionsForDefinition("key"));
@@ -206,11 +398,8 @@ class TransactionServiceTest {
                 .when(repository.searchByTransactionByUser("user"))
                 .thenReturn(List.of(transaction1, transaction2));
         Mockito
-                .when(entityService.getEntityById(entity1.getId()))
-                .thenReturn(Optional.of(entity1));
-        Mockito
-                .when(entityService.getEntityById(entity2.getId()))
-                .thenReturn(Optional.of(entity2));
+                .when(entityService.getEntitiesByIds(Set.of(entity1.getId(), entity2.getId())))
+                .thenReturn(Map.of(entity1.getId(), entity1, entity2.getId(), entity2));
 
         // Act and Assert
         assertEquals(List.of(transaction1, transaction2), service.getTransactionsByUser("user"));
@@ -252,16 +441,209 @@ class TransactionServiceTest {
                         ArgumentMatchers.<Pageable>any()))
                 .thenReturn(pagedResults);
         Mockito
-                .when(entityService.getEntityById(entity1.getId()))
-                .thenReturn(Optional.of(entity1));
-        Mockito
-                .when(entityService.getEntityById(entity2.getId()))
-                .thenReturn(Optional.of(entity2));
+                .when(entityService.getEntitiesByIds(Set.of(entity1.getId(), entity2.getId())))
+                .thenReturn(Map.of(entity1.getId(), entity1, entity2.getId(), entity2));
 
         // Act and Assert
         assertEquals(pagedResults, service.getFilteredTransactions(filters));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 100})
+    void getFilteredTransactionsHydratesEntitiesInOneBatchRegardlessOfPageSize(int pageSize)
+            throws MissingEntityException {
+        // Arrange
+        final List<Transaction> transactions = new ArrayList<>();
+        final Map<UUID, Entity> entities = new HashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            final Transaction transaction = Transaction.builder()
+                    .id(UUID.randomUUID())
+                    .entityId(UUID.randomUUID())
+                    .build();
+            transactions.add(transaction);
+            entities.put(
+                    transaction.getEntityId(),
+                    new Entity(Schema.builder().build(), transaction.getEntityId())
+            );
+        }
+        final TransactionFilters filters = TransactionFilters.builder()
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .build();
+        Mockito
+                .when(repository.findAll(ArgumentMatchers.any(),
+                        ArgumentMatchers.<Pageable>any()))
+                .thenReturn(new PageImpl<>(transactions));
+        Mockito
+                .when(entityService.getEntitiesByIds(entities.keySet()))
+                .thenReturn(entities);
+
+        // Act
+        final Page<Transaction> results = service.getFilteredTransactions(filters);
+
+        // Assert
+        Mockito.verify(entityService, Mockito.times(1)).getEntitiesByIds(ArgumentMatchers.any());
+        Mockito.verify(entityService, Mockito.never()).getEntityById(ArgumentMatchers.any());
+        assertEquals(
+                transactions.stream().map(Transaction::getEntityId).collect(Collectors.toList()),
+                results.stream().map(t -> t.getData().getId()).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void getFilteredTransactionsAfterCursorReturnsNextCursorWithoutCounting()
+            throws MissingEntityException, InvalidCursorException {
+        // Arrange
+        final List<Transaction> transactions = new ArrayList<>();
+        final Map<UUID, Entity> entities = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            final Transaction transaction = Transaction.builder()
+                    .id(UUID.randomUUID())
+                    .entityId(UUID.randomUUID())
+                    .createdTimestamp(OffsetDateTime.now().minusMinutes(i))
+                    .build();
+            transactions.add(transaction);
+            entities.put(transaction.getEntityId(), new Entity(Schema.builder().build(), transaction.getEntityId()));
+        }
+        entities.remove(transactions.get(2).getEntityId());
+        final TransactionFilters filters = TransactionFilters.builder()
+                .pageSize(2)
+                .includeTotal(false)
+                .build();
+        Mockito
+                .when(repository.findFirstInKeysetOrder(ArgumentMatchers.any(), ArgumentMatchers.eq("createdTimestamp"),
+                        ArgumentMatchers.eq(true), ArgumentMatchers.eq(3)))
+                .thenReturn(transactions);
+        Mockito
+                .when(entityService.getEntitiesByIds(entities.keySet()))
+                .thenReturn(entities);
+
+        // Act
+        final TransactionCursorPage page = service.getFilteredTransactionsAfterCursor(filters);
+
+        // Assert
+        assertEquals(transactions.subList(0, 2), page.getTransactions());
+        assertEquals(TransactionCursor.after(transactions.get(1), "createdTimestamp", true),
+                TransactionCursor.decode(page.getNextCursor()));
+        assertNull(page.getTotalCount());
+        Mockito.verify(repository, Mockito.never()).count(ArgumentMatchers.<Specification<Transaction>>any());
+    }
+
+    @Test
+    void getFilteredTransactionsAfterCursorCountsOnLastPage() throws MissingEntityException, InvalidCursorException {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .status("new")
+                .build();
+        final Entity entity = new Entity(Schema.builder().build(), transaction.getEntityId());
+        final TransactionFilters filters = TransactionFilters.builder()
+                .sortCol("Status")
+                .sortDir("asc")
+                .pageSize(2)
+                .cursor(new TransactionCursor("status", false, "draft", UUID.randomUUID()).encode())
+                .build();
+        Mockito
+                .when(repository.findFirstInKeysetOrder(ArgumentMatchers.any(), ArgumentMatchers.eq("status"),
+                        ArgumentMatchers.eq(false), ArgumentMatchers.eq(3)))
+                .thenReturn(List.of(transaction));
+        Mockito
+                .when(repository.count(ArgumentMatchers.<Specification<Transaction>>any()))
+                .thenReturn(3L);
+        Mockito
+                .when(entityService.getEntitiesByIds(Set.of(entity.getId())))
+                .thenReturn(Map.of(entity.getId(), entity));
+
+        // Act
+        final TransactionCursorPage page = service.getFilteredTransactionsAfterCursor(filters);
+
+        // Assert
+        assertEquals(List.of(transaction), page.getTransactions());
+        assertNull(page.getNextCursor());
+        assertEquals(3L, page.getTotalCount());
+    }
+
+    @Test
+    void getFilteredTransactionsAfterCursorRejectsCursorForAnotherSort() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder()
+                .sortCol("priority")
+                .sortDir("desc")
+                .cursor(new TransactionCursor("status", true, "new", UUID.randomUUID()).encode())
+                .build();
+
+        // Act and Assert
+        assertThrows(InvalidCursorException.class, () -> service.getFilteredTransactionsAfterCursor(filters));
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void exportTransactionsHandsOverChunksAndReleasesEachOne() throws MissingEntityException {
+        // Arrange
+        final List<Transaction> transactions = new ArrayList<>();
+        final Map<UUID, Entity> entities = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            final Transaction transaction = Transaction.builder()
+                    .id(UUID.randomUUID())
+                    .entityId(UUID.randomUUID())
+                    .build();
+            transactions.add(transaction);
+            entities.put(transaction.getEntityId(), new Entity(Schema.builder().build(), transaction.getEntityId()));
+        }
+        service.setExportChunkSize(2);
+        final TransactionFilters filters = TransactionFilters.builder().sortCol("priority").sortDir("asc").build();
+        Mockito
+                .when(repository.streamInKeysetOrder(ArgumentMatchers.any(), ArgumentMatchers.eq("priority"),
+                        ArgumentMatchers.eq(false), ArgumentMatchers.eq(2)))
+                .thenReturn(transactions.stream());
+        Mockito
+                .when(entityService.getEntitiesByIds(ArgumentMatchers.any()))
+                .thenReturn(entities);
+        final List<String> steps = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            steps.add("detach");
+            return null;
+        }).when(repository).detachAll();
+        final List<List<Transaction>> chunks = new ArrayList<>();
+
+        // Act
+        service.exportTransactions(filters, chunk -> {
+            chunk.forEach(t -> assertNotNull(t.getData()));
+            steps.add("map");
+            return chunk;
+        }, chunk -> {
+            steps.add("consume");
+            chunks.add(chunk);
+        });
+
+        // Assert
+        assertEquals(List.of(transactions.subList(0, 2), transactions.subList(2, 4), transactions.subList(4, 5)),
+                chunks);
+        // each chunk is mapped while loaded and only handed over once released
+        assertEquals(List.of("map", "detach", "consume", "map", "detach", "consume", "map", "detach", "consume"),
+                steps);
+        Mockito.verify(entityService, Mockito.times(3)).getEntitiesByIds(ArgumentMatchers.any());
+    }
+
+    @Test
+    void getTransactionsForDefinitionThrowsWhenEntityIsMissingFromBatch() {
+        // Arrange
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .build();
+        Mockito
+                .when(repository.searchByTransactionDefinitionKey("key"))
+                .thenReturn(List.of(transaction));
+        Mockito
+                .when(entityService.getEntitiesByIds(Set.of(transaction.getEntityId())))
+                .thenReturn(Map.of());
+
+        // Act and Assert
+        assertThrows(MissingEntityException.class, () -> service.getTransactionsForDefinition("key"));
+    }
+
     @Test
     void getTransactionCountsByStatus() {
         // Arrange
@@ -291,4 +673,37 @@ class TransactionServiceTest {
         assertEquals(counts.get(0).getCount(), count.getCount());
         assertEquals(counts.get(0).getStatus(), count.getStatus());
     }
+
+    @Test
+    void getTransactionCountsByStatusReadsMaterializedCountsWhenAvailable() {
+        // Arrange
+        final TransactionFilters filters = TransactionFilters.builder()
+                .transactionDefinitionKey("dummy")
+                .status(List.of("Submitted"))
+                .build();
+
+        final TransactionCountByStatusModel received = new TransactionCountByStatusModel();
+        received.setStatus("received");
+        received.setCount(2);
+        final TransactionCountByStatusModel inReview = new TransactionCountByStatusModel();
+        inReview.setStatus("In-Review");
+        inReview.setCount(3);
+
+        Mockito
+                .when(workflowTasksService.getStatusMap(null, "dummy"))
+                .thenReturn(Map.of("Submitted", List.of("Received", "in-review")));
+        Mockito
+                .when(statusCounterService.getTransactionCountsByStatus(filters))
+                .thenReturn(Optional.of(new ArrayList<>(List.of(received, inReview))));
+
+        // Act
+        List<TransactionCountByStatusModel> counts = service.getTransactionCountsByStatus(filters);
+
+        // Assert
+        assertEquals(List.of("Received", "in-review"), filters.getStatus().subList(0, 2));
+        assertEquals(1, counts.size());
+        assertEquals("Submitted", counts.get(0).getStatus());
+        assertEquals(5, counts.get(0).getCount());
+        Mockito.verify(repository, Mockito.never()).getTransactionCountsByStatus(ArgumentMatchers.any());
+    }
 }
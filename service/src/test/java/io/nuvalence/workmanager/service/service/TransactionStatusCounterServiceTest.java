@@ -0,0 +1,174 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.domain.transaction.TransactionStatusCounterKey;
+import io.nuvalence.workmanager.service.generated.models.TransactionCountByStatusModel;
+import io.nuvalence.workmanager.service.models.TransactionFilters;
+import io.nuvalence.workmanager.service.repository.TransactionStatusCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStatusCounterServiceTest {
+    private static final OffsetDateTime MIDNIGHT = OffsetDateTime.now(ZoneId.systemDefault())
+            .toLocalDate().atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+
+    @Mock
+    private TransactionStatusCounterRepository repository;
+
+    @Test
+    void recordChangeCountsNewTransaction() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final Transaction transaction = createTransaction();
+
+        // Act
+        service.recordChange(transaction);
+
+        // Assert
+        final TransactionStatusCounterKey key = TransactionStatusCounterKey.of(transaction);
+        Mockito.verify(repository).increment(key);
+        Mockito.verify(repository, Mockito.never()).decrement(ArgumentMatchers.any());
+        assertEquals(key, transaction.getCountedAs());
+        assertEquals("", key.getAssignedTo());
+    }
+
+    @Test
+    void recordChangeMovesTransactionToNewBucket() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final Transaction transaction = createTransaction();
+        final TransactionStatusCounterKey previous = TransactionStatusCounterKey.of(transaction);
+        transaction.setCountedAs(previous);
+        transaction.setStatus("approved");
+
+        // Act
+        service.recordChange(transaction);
+
+        // Assert
+        Mockito.verify(repository).decrement(previous);
+        Mockito.verify(repository).increment(TransactionStatusCounterKey.of(transaction));
+    }
+
+    @Test
+    void recordChangeIgnoresChangesOutsideTheBucket() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final Transaction transaction = createTransaction();
+        transaction.setCountedAs(TransactionStatusCounterKey.of(transaction));
+        transaction.setDistrict("north");
+
+        // Act
+        service.recordChange(transaction);
+
+        // Assert
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void recordCreatedIncrementsEachBucketOnce() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final Transaction first = createTransaction();
+        final Transaction second = createTransaction();
+        final Transaction urgent = createTransaction();
+        urgent.setPriority("urgent");
+
+        // Act
+        service.recordCreated(List.of(first, second, urgent));
+
+        // Assert
+        Mockito.verify(repository).increment(TransactionStatusCounterKey.of(first), 2L);
+        Mockito.verify(repository).increment(TransactionStatusCounterKey.of(urgent), 1L);
+        Mockito.verifyNoMoreInteractions(repository);
+        assertEquals(TransactionStatusCounterKey.of(second), second.getCountedAs());
+        assertEquals(TransactionStatusCounterKey.of(urgent), urgent.getCountedAs());
+    }
+
+    @Test
+    void getTransactionCountsByStatusReadsCountsForWholeDays() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final TransactionFilters filters = TransactionFilters.builder()
+                .startDate(MIDNIGHT)
+                .endDate(MIDNIGHT.plusDays(1))
+                .build();
+        final TransactionCountByStatusModel count = new TransactionCountByStatusModel();
+        Mockito
+                .when(repository.getTransactionCountsByStatus(ArgumentMatchers.any()))
+                .thenReturn(List.of(count));
+
+        // Act
+        final Optional<List<TransactionCountByStatusModel>> counts = service.getTransactionCountsByStatus(filters);
+
+        // Assert
+        assertEquals(Optional.of(List.of(count)), counts);
+    }
+
+    @Test
+    void getTransactionCountsByStatusFallsBackForPartialDays() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final TransactionFilters filters = TransactionFilters.builder()
+                .startDate(MIDNIGHT.plusHours(6))
+                .build();
+
+        // Act
+        final Optional<List<TransactionCountByStatusModel>> counts = service.getTransactionCountsByStatus(filters);
+
+        // Assert
+        assertTrue(counts.isEmpty());
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTransactionCountsByStatusFallsBackForBlankAssignee() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, true);
+        final TransactionFilters filters = TransactionFilters.builder()
+                .assignedTo(List.of(""))
+                .build();
+
+        // Act
+        final Optional<List<TransactionCountByStatusModel>> counts = service.getTransactionCountsByStatus(filters);
+
+        // Assert
+        assertTrue(counts.isEmpty());
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTransactionCountsByStatusFallsBackWhenDisabled() {
+        // Arrange
+        final TransactionStatusCounterService service = new TransactionStatusCounterService(repository, false);
+
+        // Act
+        final Optional<List<TransactionCountByStatusModel>> counts =
+                service.getTransactionCountsByStatus(TransactionFilters.builder().build());
+
+        // Assert
+        assertTrue(counts.isEmpty());
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    private static Transaction createTransaction() {
+        return Transaction.builder()
+                .transactionDefinitionKey("key")
+                .status("new")
+                .priority("medium")
+                .createdTimestamp(MIDNIGHT.plusHours(10))
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import io.nuvalence.workmanager.service.domain.transaction.MissingEntityExceptio
 import io.nuvalence.workmanager.service.domain.transaction.MissingTaskException;
 import io.nuvalence.workmanager.service.domain.transaction.Transaction;
 import io.nuvalence.workmanager.service.mapper.EntityMapper;
+import io.nuvalence.workmanager.service.utils.camunda.WorkflowStatusCapture;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
@@ -49,7 +50,8 @@ class TransactionTaskServiceTest {
 
     @BeforeEach
     void setup() {
-        service = new TransactionTaskService(processEngine, entityMapper);
+        service = new TransactionTaskService(processEngine, entityMapper, new ObjectMapper(),
+                TransactionTaskService.VariableStrategy.FULL);
         Mockito.lenient().when(processEngine.getTaskService()).thenReturn(taskService);
         Mockito.lenient().when(taskService.createTaskQuery()).thenReturn(taskQuery);
     }
@@ -84,6 +86,88 @@ class TransactionTaskServiceTest {
         ));
     }
 
+    @Test
+    void completeTaskSetsStatusFromSequenceFlowTakenDuringCompletion()
+            throws MissingEntityException, MissingTaskException, JsonProcessingException {
+        // Arrange
+        final Transaction transaction = createTransactionWithEntity();
+        Mockito.when(entityMapper.convertAttributesToGenericMap(transaction.getData())).thenReturn(Map.of());
+        final Task task = mockTask(transaction);
+        Mockito.doAnswer(invocation -> {
+            WorkflowStatusCapture.recordStatus("submitted");
+            return null;
+        }).when(taskService).complete(Mockito.eq(task.getId()), Mockito.anyMap());
+
+        // Act
+        service.completeTask(transaction, task.getId(), "foo");
+
+        // Assert
+        assertEquals("submitted", transaction.getStatus());
+        Mockito.verify(processEngine, Mockito.never()).getHistoryService();
+    }
+
+    @Test
+    void completeTaskKeepsStatusWhenNoSequenceFlowSetsOne()
+            throws MissingEntityException, MissingTaskException, JsonProcessingException {
+        // Arrange
+        final Transaction transaction = createTransactionWithEntity();
+        Mockito.when(entityMapper.convertAttributesToGenericMap(transaction.getData())).thenReturn(Map.of());
+        final Task task = mockTask(transaction);
+
+        // Act
+        service.completeTask(transaction, task.getId(), "foo");
+
+        // Assert
+        assertEquals("incomplete", transaction.getStatus());
+    }
+
+    @Test
+    void completeTaskWithJsonVariableStrategy()
+            throws MissingEntityException, MissingTaskException, JsonProcessingException {
+        // Arrange
+        service = new TransactionTaskService(processEngine, entityMapper, new ObjectMapper(),
+                TransactionTaskService.VariableStrategy.JSON);
+        final Transaction transaction = createTransactionWithEntity();
+        final Map<String, Object> variables = Map.of("foo", "bar");
+        Mockito.when(entityMapper.convertAttributesToGenericMap(transaction.getData())).thenReturn(variables);
+        final Task task = mockTask(transaction);
+
+        // Act
+        service.completeTask(transaction, task.getId(), "foo");
+
+        // Assert
+        Mockito.verify(taskService).complete(task.getId(), Map.of(
+                "dataJSON", "{\"foo\":\"bar\"}",
+                "condition", "foo"
+        ));
+    }
+
+    @Test
+    void completeTaskWithReferenceVariableStrategy() throws MissingTaskException, JsonProcessingException {
+        // Arrange
+        service = new TransactionTaskService(processEngine, entityMapper, new ObjectMapper(),
+                TransactionTaskService.VariableStrategy.REFERENCE);
+        // the entity is never loaded; its id is all the workflow is given
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .entityId(UUID.randomUUID())
+                .processInstanceId("process-instance")
+                .status("incomplete")
+                .build();
+        final Task task = mockTask(transaction);
+
+        // Act
+        service.completeTask(transaction, task.getId(), "foo");
+
+        // Assert
+        Mockito.verify(taskService).complete(task.getId(), Map.of(
+                "transactionId", transaction.getId().toString(),
+                "entityId", transaction.getEntityId().toString(),
+                "condition", "foo"
+        ));
+        Mockito.verifyNoInteractions(entityMapper);
+    }
+
     @Test
     void completeTaskThrowsMissingTaskExceptionWhenTaskDoesntExist() throws MissingEntityException {
         // Arrange
@@ -103,4 +187,27 @@ class TransactionTaskServiceTest {
         assertThrows(MissingTaskException.class, () -> service.completeTask(transaction, "task-id", "foo"));
     }
 
-}
\ No newline at end of file
+    private Transaction createTransactionWithEntity() throws MissingEntityException {
+        final Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .transactionDefinitionKey("key")
+                .entityId(UUID.randomUUID())
+                .processInstanceId("process-instance")
+                .status("incomplete")
+                .build();
+        final Entity entity = new Entity(Schema.builder().build(), transaction.getEntityId());
+        Mockito.when(entityService.getEntityById(entity.getId())).thenReturn(Optional.of(entity));
+        transaction.loadEntity(entityService);
+
+        return transaction;
+    }
+
+    private Task mockTask(final Transaction transaction) {
+        final Task task = new TaskEntity("task-id");
+        Mockito.when(taskQuery.processInstanceId(transaction.getProcessInstanceId())).thenReturn(taskQuery);
+        Mockito.when(taskQuery.taskDefinitionKey(task.getId())).thenReturn(taskQuery);
+        Mockito.when(taskQuery.list()).thenReturn(List.of(task));
+
+        return task;
+    }
+}
@@ -0,0 +1,82 @@
+package io.nuvalence.workmanager.service.service;
+
+import io.nuvalence.workmanager.service.domain.transaction.Transaction;
+import io.nuvalence.workmanager.service.repository.SqlStatementRecorder;
+import io.nuvalence.workmanager.service.repository.TransactionTestFixture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionUpdateStatementsTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionService service;
+
+    @Autowired
+    private TransactionDefinitionService transactionDefinitionService;
+
+    private TransactionTestFixture fixture;
+    private UUID transactionId;
+
+    @BeforeAll
+    void seed() {
+        fixture = new TransactionTestFixture(jdbcTemplate, "statements-test");
+        fixture.create();
+        transactionId = UUID.fromString(fixture.insertTransaction("statements-test", "new"));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        fixture.delete();
+    }
+
+    @Test
+    void assignmentOnlyUpdateLeavesTheEntityAlone() throws Exception {
+        // Arrange
+        // loaded outside of any database transaction, as the API does, so the update merges a detached copy
+        final Transaction transaction = service.getTransactionById(transactionId).orElseThrow();
+        transaction.setAssignedTo("user-1");
+        // the category published with the assignment is cached after its first lookup
+        transactionDefinitionService.getCategoryByKey(fixture.getDefinitionKey());
+
+        // Act
+        SqlStatementRecorder.start();
+        service.updateTransaction(transaction);
+        final List<String> statements = SqlStatementRecorder.stop().stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+
+        // Assert
+        // the merge reads the row the detached transaction is copied into, then the row and the two count buckets
+        // (assignedTo is part of the count key) are written; the unchanged entity is neither read nor written
+        assertEquals(4, statements.size(), statements.toString());
+        assertTrue(statements.get(0).startsWith("select") && statements.get(0).contains(" from transaction "),
+                statements.get(0));
+        assertTrue(statements.get(1).startsWith("update transaction set"), statements.get(1));
+        assertTrue(statements.get(2).startsWith("update transaction_status_count"), statements.get(2));
+        assertTrue(statements.get(3).startsWith("merge into transaction_status_count"), statements.get(3));
+        assertEquals("user-1", jdbcTemplate.queryForObject(
+                "SELECT assigned_to FROM transaction WHERE id = ?", String.class, transactionId.toString()));
+    }
+}
@@ -0,0 +1,221 @@
+package io.nuvalence.workmanager.service.usermanagementapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nuvalence.workmanager.service.usermanagementapi.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+    @Mock
+    private UserManagementClient userManagementClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDirectory = new UserDirectory(userManagementClient, meterRegistry, 100, 600, 60, "Unknown user");
+    }
+
+    @Test
+    void getUserByIdCachesFoundUsers() {
+        // Arrange
+        final Optional<User> user = createUser();
+        final String id = user.get().getId().toString();
+        Mockito.when(userManagementClient.getUserById(id, "token")).thenReturn(user);
+
+        // Act
+        userDirectory.getUserById(id, "token");
+        final Optional<User> result = userDirectory.getUserById(id, "token");
+
+        // Assert
+        assertEquals(user, result);
+        assertEquals(user, userDirectory.getCachedUserById(id));
+        Mockito.verify(userManagementClient, Mockito.times(1)).getUserById(id, "token");
+    }
+
+    @Test
+    void getUserByIdCachesUsersThatAreNotFound() {
+        // Arrange
+        Mockito.when(userManagementClient.getUserById("missing", "token")).thenReturn(Optional.empty());
+
+        // Act
+        final Optional<User> first = userDirectory.getUserById("missing", "token");
+        final Optional<User> second = userDirectory.getUserById("missing", "token");
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        Mockito.verify(userManagementClient, Mockito.times(1)).getUserById("missing", "token");
+    }
+
+    @Test
+    void getUsersByIdsLoadsOnlyUncachedUsersInOneBatch() {
+        // Arrange
+        final Optional<User> cached = createUser();
+        final Optional<User> uncached = createUser();
+        final String cachedId = cached.get().getId().toString();
+        final String uncachedId = uncached.get().getId().toString();
+        Mockito.when(userManagementClient.getUserById(cachedId, "token")).thenReturn(cached);
+        userDirectory.getUserById(cachedId, "token");
+        Mockito.when(userManagementClient.getUsersByIds(List.of(uncachedId), "token"))
+                .thenReturn(Map.of(uncachedId, uncached));
+
+        // Act
+        final Map<String, User> result = userDirectory.getUsersByIds(
+                Arrays.asList(cachedId, uncachedId, cachedId, null), "token");
+
+        // Assert
+        assertEquals(Map.of(cachedId, cached.get(), uncachedId, uncached.get()), result);
+        assertEquals(uncached, userDirectory.getCachedUserById(uncachedId));
+        Mockito.verify(userManagementClient, Mockito.times(1)).getUsersByIds(List.of(uncachedId), "token");
+    }
+
+    @Test
+    void getUsersByIdsOmitsUsersThatAreNotFound() {
+        // Arrange
+        Mockito.when(userManagementClient.getUsersByIds(List.of("missing"), "token"))
+                .thenReturn(Map.of("missing", Optional.empty()));
+
+        // Act
+        final Map<String, User> result = userDirectory.getUsersByIds(List.of("missing"), "token");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(userDirectory.getCachedUserById("missing").isEmpty());
+    }
+
+    @Test
+    void getUserByIdFallsBackToPlaceholderWhenApiIsUnavailable() {
+        // Arrange
+        Mockito.when(userManagementClient.getUserById("someId", "token"))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        // Act
+        final Optional<User> result = userDirectory.getUserById("someId", "token");
+
+        // Assert
+        assertEquals("Unknown user", result.get().getDisplayName());
+        assertTrue(userDirectory.getCachedUserById("someId").isEmpty());
+        assertEquals(1.0, meterRegistry.get("user.directory.fallbacks").counter().count());
+    }
+
+    @Test
+    void getUserByIdPropagatesClientErrors() {
+        // Arrange
+        Mockito.when(userManagementClient.getUserById("someId", "token"))
+                .thenThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED));
+
+        // Act and Assert
+        assertThrows(HttpClientErrorException.class, () -> userDirectory.getUserById("someId", "token"));
+        assertEquals(0.0, meterRegistry.get("user.directory.fallbacks").counter().count());
+    }
+
+    @Test
+    void getUsersByIdsServesCachedUsersAndPlaceholdersWhenApiIsUnavailable() {
+        // Arrange
+        final Optional<User> cached = createUser();
+        final String cachedId = cached.get().getId().toString();
+        Mockito.when(userManagementClient.getUserById(cachedId, "token")).thenReturn(cached);
+        userDirectory.getUserById(cachedId, "token");
+        Mockito.when(userManagementClient.getUsersByIds(List.of("failed"), "token")).thenReturn(Map.of());
+
+        // Act
+        final Map<String, User> result = userDirectory.getUsersByIds(List.of(cachedId, "failed"), "token");
+
+        // Assert
+        assertEquals(cached.get(), result.get(cachedId));
+        assertEquals("Unknown user", result.get("failed").getDisplayName());
+    }
+
+    @Test
+    void getCachedUserByIdDoesNotCallApi() {
+        // Act and Assert
+        assertTrue(userDirectory.getCachedUserById("unknown").isEmpty());
+        Mockito.verifyNoInteractions(userManagementClient);
+    }
+
+    @Test
+    void getUserByIdLoadsConcurrentMissesOnlyOnce() throws Exception {
+        // Arrange
+        final Optional<User> user = createUser();
+        final String id = user.get().getId().toString();
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(userManagementClient.getUserById(id, "token")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return user;
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Optional<User>>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> userDirectory.getUserById(id, "token")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            for (Future<Optional<User>> result : results) {
+                assertEquals(user, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Mockito.verify(userManagementClient, Mockito.times(1)).getUserById(id, "token");
+    }
+
+    @Test
+    void publishesCacheAndLoadMetrics() {
+        // Arrange
+        final Optional<User> user = createUser();
+        final String id = user.get().getId().toString();
+        Mockito.when(userManagementClient.getUserById(id, "token")).thenReturn(user);
+
+        // Act
+        userDirectory.getUserById(id, "token");
+        userDirectory.getUserById(id, "token");
+
+        // Assert
+        assertEquals(1, meterRegistry.get("user.directory.load").timer().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", UserDirectory.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertNotNull(meterRegistry.get("cache.size").tag("cache", UserDirectory.CACHE_NAME).gauge());
+    }
+
+    private Optional<User> createUser() {
+        return Optional.of(User.builder()
+                .email("someEmail@something.com")
+                .displayName("Some User")
+                .id(UUID.randomUUID())
+                .build());
+    }
+}
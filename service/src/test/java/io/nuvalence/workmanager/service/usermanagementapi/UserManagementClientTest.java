@@ -1,21 +1,36 @@
 package io.nuvalence.workmanager.service.usermanagementapi;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.nuvalence.workmanager.service.config.UserManagementHttpConfig;
 import io.nuvalence.workmanager.service.usermanagementapi.models.User;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -25,12 +40,11 @@ public class UserManagementClientTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private UserManagementClient client;
 
     @BeforeEach
     void initTests() {
-        client.setHttpClient(restTemplate);
+        client = new UserManagementClient(restTemplate, CircuitBreaker.ofDefaults("test"));
     }
 
     @Test
@@ -57,6 +71,137 @@ public class UserManagementClientTest {
         assertEquals(user.get().getEmail(), "someEmail@something.com");
     }
 
+    @Test
+    public void getUsersByIds() throws Exception {
+        // Arrange
+        final User found = User.builder()
+                .email("someEmail@something.com")
+                .displayName("Some User")
+                .id(UUID.randomUUID())
+                .build();
+        final String missingId = UUID.randomUUID().toString();
+
+        try (UserManagementStubServer server = new UserManagementStubServer()) {
+            server.addUser(found);
+            final UserManagementClient stubClient = createStubClient(server, CircuitBreaker.ofDefaults("test"));
+
+            // Act
+            final Map<String, Optional<User>> users = stubClient.getUsersByIds(
+                    List.of(found.getId().toString(), missingId, found.getId().toString()), "token");
+
+            // Assert
+            assertEquals(2, users.size());
+            assertEquals("Some User", users.get(found.getId().toString()).get().getDisplayName());
+            assertTrue(users.get(missingId).isEmpty());
+            assertEquals(2, server.getRequestCount());
+            stubClient.shutdown();
+        }
+    }
+
+    @Test
+    public void getUserByIdIsBoundedByReadTimeout() throws Exception {
+        try (UserManagementStubServer server = new UserManagementStubServer()) {
+            // Arrange
+            server.setResponseDelay(Duration.ofSeconds(2));
+            final UserManagementClient stubClient = createStubClient(server, CircuitBreaker.ofDefaults("test"));
+            final long start = System.nanoTime();
+
+            // Act and Assert
+            assertThrows(ResourceAccessException.class, () -> stubClient.getUserById("someId", "token"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        }
+    }
+
+    @Test
+    public void circuitBreakerOpensAfterServerErrors() throws Exception {
+        try (UserManagementStubServer server = new UserManagementStubServer()) {
+            // Arrange
+            server.failWith(503);
+            final CircuitBreaker circuitBreaker = createCircuitBreaker();
+            final UserManagementClient stubClient = createStubClient(server, circuitBreaker);
+
+            // Act
+            assertThrows(HttpServerErrorException.class, () -> stubClient.getUserById("someId", "token"));
+            assertThrows(HttpServerErrorException.class, () -> stubClient.getUserById("someId", "token"));
+
+            // Assert
+            assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+            assertThrows(CallNotPermittedException.class, () -> stubClient.getUserById("someId", "token"));
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void circuitBreakerIgnoresUsersThatAreNotFound() throws Exception {
+        try (UserManagementStubServer server = new UserManagementStubServer()) {
+            // Arrange
+            final CircuitBreaker circuitBreaker = createCircuitBreaker();
+            final UserManagementClient stubClient = createStubClient(server, circuitBreaker);
+
+            // Act
+            for (int i = 0; i < 3; i++) {
+                assertTrue(stubClient.getUserById("missing", "token").isEmpty());
+            }
+
+            // Assert
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+            assertEquals(3, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void getUsersByIdsOmitsFailedLookups() {
+        // Arrange
+        final String failingId = UUID.randomUUID().toString();
+        when(restTemplate.exchange(ArgumentMatchers.contains(failingId), eq(HttpMethod.GET),
+                ArgumentMatchers.any(),
+                eq(User.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // Act
+        final Map<String, Optional<User>> users = client.getUsersByIds(List.of(failingId), "token");
+
+        // Assert
+        assertTrue(users.isEmpty());
+        client.shutdown();
+    }
+
+    @Test
+    public void getUsersByIdsRethrowsLookupFailuresOtherThanUnavailability() {
+        // Arrange
+        final String forbiddenId = UUID.randomUUID().toString();
+        when(restTemplate.exchange(ArgumentMatchers.contains(forbiddenId), eq(HttpMethod.GET),
+                ArgumentMatchers.any(),
+                eq(User.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+        // Act and Assert
+        final HttpClientErrorException e = assertThrows(HttpClientErrorException.class,
+                () -> client.getUsersByIds(List.of(forbiddenId), "token"));
+        assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+        client.shutdown();
+    }
+
+    private UserManagementClient createStubClient(final UserManagementStubServer server,
+                                                  final CircuitBreaker circuitBreaker) {
+        final RestTemplate pooledRestTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+                UserManagementHttpConfig.createHttpClient(new PoolingHttpClientConnectionManager(), 500, 500, 200, 30)
+        ));
+        final UserManagementClient stubClient = new UserManagementClient(pooledRestTemplate, circuitBreaker);
+        ReflectionTestUtils.setField(stubClient, "baseUrl", server.getBaseUrl());
+
+        return stubClient;
+    }
+
+    private CircuitBreaker createCircuitBreaker() {
+        return CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(HttpServerErrorException.class, ResourceAccessException.class)
+                .build());
+    }
+
     private ResponseEntity<User> getUserResponse() {
         User response = User.builder()
                                 .email("someEmail@something.com")
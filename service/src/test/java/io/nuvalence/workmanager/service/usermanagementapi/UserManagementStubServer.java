@@ -0,0 +1,96 @@
+package io.nuvalence.workmanager.service.usermanagementapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.nuvalence.workmanager.service.usermanagementapi.models.User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP server standing in for the User Management API in tests.
+ * Serves {@code GET /api/v2/user/{id}} for registered users and responds 404 for any other id. Responses can be
+ * delayed, or replaced with a fixed status code, to simulate a slow or failing API.
+ */
+class UserManagementStubServer implements AutoCloseable {
+    private static final String USER_PATH = "/api/v2/user/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpServer server;
+    private volatile Duration responseDelay = Duration.ZERO;
+    private volatile int failureStatus;
+
+    UserManagementStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(USER_PATH, this::handleGetUser);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    void addUser(final User user) {
+        users.put(user.getId().toString(), user);
+    }
+
+    void setResponseDelay(final Duration responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    void failWith(final int status) {
+        this.failureStatus = status;
+    }
+
+    String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleGetUser(final HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            Thread.sleep(responseDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failureStatus != 0) {
+            exchange.sendResponseHeaders(failureStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        final String id = exchange.getRequestURI().getPath().substring(USER_PATH.length());
+        final User user = users.get(id);
+        if (user == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        final byte[] body = objectMapper.writeValueAsBytes(user);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessDefinitionMetadataCacheTest {
+    private static final String BPMN = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+            + " xmlns:camunda=\"http://camunda.org/schema/1.0/bpmn\" id=\"defs\""
+            + " targetNamespace=\"http://bpmn.io/schema/bpmn\">"
+            + "<bpmn:process id=\"test\" isExecutable=\"true\">"
+            + "<bpmn:startEvent id=\"start\"/>"
+            + "<bpmn:sequenceFlow id=\"toReview\" sourceRef=\"start\" targetRef=\"review\">"
+            + "<bpmn:extensionElements><camunda:properties>"
+            + "<camunda:property name=\"status\" value=\"Submitted\"/>"
+            + "<camunda:property name=\"publicStatus\" value=\"In Progress\"/>"
+            + "</camunda:properties></bpmn:extensionElements>"
+            + "</bpmn:sequenceFlow>"
+            + "<bpmn:userTask id=\"review\">"
+            + "<bpmn:incoming>toReview</bpmn:incoming><bpmn:outgoing>toGateway</bpmn:outgoing>"
+            + "</bpmn:userTask>"
+            + "<bpmn:sequenceFlow id=\"toGateway\" sourceRef=\"review\" targetRef=\"gateway\"/>"
+            + "<bpmn:exclusiveGateway id=\"gateway\">"
+            + "<bpmn:incoming>toGateway</bpmn:incoming>"
+            + "<bpmn:outgoing>approve</bpmn:outgoing><bpmn:outgoing>deny</bpmn:outgoing>"
+            + "</bpmn:exclusiveGateway>"
+            + "<bpmn:sequenceFlow id=\"approve\" name=\"approve\" sourceRef=\"gateway\" targetRef=\"end\">"
+            + "<bpmn:extensionElements><camunda:properties>"
+            + "<camunda:property name=\"status\" value=\"Approved\"/>"
+            + "<camunda:property name=\"publicStatus\" value=\"Complete\"/>"
+            + "</camunda:properties></bpmn:extensionElements>"
+            + "</bpmn:sequenceFlow>"
+            + "<bpmn:sequenceFlow id=\"deny\" name=\"deny\" sourceRef=\"gateway\" targetRef=\"end\">"
+            + "<bpmn:extensionElements><camunda:properties>"
+            + "<camunda:property name=\"status\" value=\"Denied\"/>"
+            + "<camunda:property name=\"publicStatus\" value=\"Complete\"/>"
+            + "</camunda:properties></bpmn:extensionElements>"
+            + "</bpmn:sequenceFlow>"
+            + "<bpmn:endEvent id=\"end\"/>"
+            + "</bpmn:process>"
+            + "</bpmn:definitions>";
+
+    @Mock
+    private RepositoryService repositoryService;
+
+    private ProcessDefinitionMetadataCache cache;
+
+    private BpmnModelInstance modelInstance;
+
+    @BeforeEach
+    void setup() {
+        cache = new ProcessDefinitionMetadataCache();
+        cache.setRepositoryService(repositoryService);
+        modelInstance = Bpmn.readModelFromStream(new ByteArrayInputStream(BPMN.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(repositoryService.getBpmnModelInstance("test:1:1")).thenReturn(modelInstance);
+    }
+
+    @Test
+    void getBuildsMetadataFromModel() {
+        // Act
+        final ProcessDefinitionMetadata metadata = cache.get("test:1:1");
+
+        // Assert
+        assertSame(modelInstance, metadata.getModelInstance());
+        assertEquals(List.of("In Progress", "Complete"), metadata.getPublicStatuses());
+        assertEquals(List.of("Submitted", "Approved", "Denied"), metadata.getInternalStatuses());
+        assertEquals(
+                Map.of("In Progress", List.of("Submitted"), "Complete", List.of("Approved", "Denied")),
+                metadata.getStatusMap()
+        );
+        assertEquals(List.of("approve", "deny"), metadata.getTaskConditions("review"));
+        assertTrue(metadata.getTaskConditions("unknown").isEmpty());
+    }
+
+    @Test
+    void getParsesEachProcessDefinitionOnlyOnce() {
+        // Act
+        final ProcessDefinitionMetadata first = cache.get("test:1:1");
+        final ProcessDefinitionMetadata second = cache.get("test:1:1");
+
+        // Assert
+        assertSame(first, second);
+        Mockito.verify(repositoryService, Mockito.times(1)).getBpmnModelInstance("test:1:1");
+    }
+}
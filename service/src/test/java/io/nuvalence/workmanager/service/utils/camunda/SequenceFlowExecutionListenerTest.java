@@ -0,0 +1,107 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequenceFlowExecutionListenerTest {
+    private static final String BPMN_NS = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    private static final String CAMUNDA_NS = BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS.getNamespaceUri();
+
+    @Test
+    void forSequenceFlowReadsStatusProperties() {
+        // Arrange
+        final Element sequenceFlow = sequenceFlow(property("status", "Submitted"),
+                property("publicStatus", "In Progress"), property("color", "blue"));
+
+        // Act
+        final Optional<SequenceFlowExecutionListener> listener =
+                SequenceFlowExecutionListener.forSequenceFlow(sequenceFlow);
+
+        // Assert
+        assertTrue(listener.isPresent());
+        assertEquals("Submitted", listener.get().getStatus());
+        assertEquals("In Progress", listener.get().getPublicStatus());
+    }
+
+    @Test
+    void forSequenceFlowReturnsEmptyWithoutStatusProperties() {
+        assertEquals(Optional.empty(), SequenceFlowExecutionListener.forSequenceFlow(
+                sequenceFlow(property("color", "blue"))));
+        assertEquals(Optional.empty(), SequenceFlowExecutionListener.forSequenceFlow(
+                new Element(BPMN_NS, "sequenceFlow", "bpmn:sequenceFlow", new AttributesImpl())));
+    }
+
+    @Test
+    void forSequenceFlowReadsPublicStatusAlone() {
+        // Act
+        final Optional<SequenceFlowExecutionListener> listener = SequenceFlowExecutionListener.forSequenceFlow(
+                sequenceFlow(property("publicStatus", "In Progress")));
+
+        // Assert
+        assertTrue(listener.isPresent());
+        assertNull(listener.get().getStatus());
+    }
+
+    @Test
+    void notifySetsStatusVariablesAndRecordsStatus() {
+        // Arrange
+        final DelegateExecution execution = Mockito.mock(DelegateExecution.class);
+        final SequenceFlowExecutionListener listener = new SequenceFlowExecutionListener("Submitted", "In Progress");
+
+        // Act
+        try (WorkflowStatusCapture capture = WorkflowStatusCapture.start()) {
+            listener.notify(execution);
+
+            // Assert
+            assertEquals(Optional.of("Submitted"), capture.getStatus());
+        }
+        Mockito.verify(execution).setVariable("status", "Submitted");
+        Mockito.verify(execution).setVariable("publicStatus", "In Progress");
+    }
+
+    @Test
+    void notifyOnlySetsStatusesPresentOnSequenceFlow() {
+        // Arrange
+        final DelegateExecution execution = Mockito.mock(DelegateExecution.class);
+
+        // Act
+        new SequenceFlowExecutionListener(null, "In Progress").notify(execution);
+
+        // Assert
+        Mockito.verify(execution).setVariable("publicStatus", "In Progress");
+        Mockito.verifyNoMoreInteractions(execution);
+    }
+
+    private static Element sequenceFlow(final Element... properties) {
+        final Element propertiesElement = new Element(CAMUNDA_NS, "properties", "camunda:properties",
+                new AttributesImpl());
+        for (Element property : properties) {
+            propertiesElement.add(property);
+        }
+        final Element extensionElements = new Element(BPMN_NS, "extensionElements", "bpmn:extensionElements",
+                new AttributesImpl());
+        extensionElements.add(propertiesElement);
+        final Element sequenceFlow = new Element(BPMN_NS, "sequenceFlow", "bpmn:sequenceFlow", new AttributesImpl());
+        sequenceFlow.add(extensionElements);
+
+        return sequenceFlow;
+    }
+
+    private static Element property(final String name, final String value) {
+        final AttributesImpl attributes = new AttributesImpl();
+        attributes.addAttribute("", "name", "name", "CDATA", name);
+        attributes.addAttribute("", "value", "value", "CDATA", value);
+
+        return new Element(CAMUNDA_NS, "property", "camunda:property", attributes);
+    }
+}
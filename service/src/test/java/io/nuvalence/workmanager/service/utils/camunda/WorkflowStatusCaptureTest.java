@@ -0,0 +1,48 @@
+package io.nuvalence.workmanager.service.utils.camunda;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkflowStatusCaptureTest {
+
+    @Test
+    void capturesLastStatusRecordedWhileActive() {
+        try (WorkflowStatusCapture capture = WorkflowStatusCapture.start()) {
+            // Act
+            WorkflowStatusCapture.recordStatus("submitted");
+            WorkflowStatusCapture.recordStatus("in review");
+
+            // Assert
+            assertEquals(Optional.of("in review"), capture.getStatus());
+        }
+    }
+
+    @Test
+    void ignoresStatusesRecordedWithoutActiveCapture() {
+        // Act
+        WorkflowStatusCapture.recordStatus("submitted");
+
+        // Assert
+        try (WorkflowStatusCapture capture = WorkflowStatusCapture.start()) {
+            assertEquals(Optional.empty(), capture.getStatus());
+        }
+    }
+
+    @Test
+    void restoresEnclosingCaptureWhenNestedCaptureCloses() {
+        try (WorkflowStatusCapture outer = WorkflowStatusCapture.start()) {
+            // Act
+            try (WorkflowStatusCapture inner = WorkflowStatusCapture.start()) {
+                WorkflowStatusCapture.recordStatus("inner");
+                assertEquals(Optional.of("inner"), inner.getStatus());
+            }
+            WorkflowStatusCapture.recordStatus("outer");
+
+            // Assert
+            assertEquals(Optional.of("outer"), outer.getStatus());
+        }
+    }
+}